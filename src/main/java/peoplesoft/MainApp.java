@@ -23,7 +23,9 @@ import peoplesoft.model.ReadOnlyUserPrefs;
 import peoplesoft.model.UserPrefs;
 import peoplesoft.model.util.SampleDataUtil;
 import peoplesoft.storage.AddressBookStorage;
+import peoplesoft.storage.CommandJournal;
 import peoplesoft.storage.JsonAddressBookStorage;
+import peoplesoft.storage.JsonDeltaAddressBookStorage;
 import peoplesoft.storage.JsonUserPrefsStorage;
 import peoplesoft.storage.Storage;
 import peoplesoft.storage.StorageManager;
@@ -56,14 +58,16 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = config.isDeltaStorageEnabled()
+                ? new JsonDeltaAddressBookStorage(userPrefs.getAddressBookFilePath(), config.isDataFilePrettyPrinted())
+                : new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(), config.isDataFilePrettyPrinted());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = initLogicManager(model, storage, config);
 
         ui = new UiManager(logic);
     }
@@ -93,6 +97,26 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns a {@code LogicManager} for {@code model} and {@code storage}. <br>
+     * If the command journal is enabled in {@code config}, commands journaled since the address book was last saved
+     * are replayed on top of {@code model} first.
+     */
+    private Logic initLogicManager(Model model, Storage storage, Config config) {
+        if (!config.isCommandJournalEnabled()) {
+            return new LogicManager(model, storage);
+        }
+
+        LogicManager logicManager = new LogicManager(model, storage,
+                CommandJournal.forDataFile(storage.getAddressBookFilePath()));
+        try {
+            logicManager.replayJournal();
+        } catch (IOException e) {
+            logger.warning("Problem while replaying the command journal " + StringUtil.getDetails(e));
+        }
+        return logicManager;
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -174,6 +198,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        try {
+            logic.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
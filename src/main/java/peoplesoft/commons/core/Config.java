@@ -15,6 +15,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean isDataFilePrettyPrinted = true;
+    private boolean isCommandJournalEnabled = false;
+    private boolean isDeltaStorageEnabled = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +35,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isDataFilePrettyPrinted() {
+        return isDataFilePrettyPrinted;
+    }
+
+    public void setDataFilePrettyPrinted(boolean isDataFilePrettyPrinted) {
+        this.isDataFilePrettyPrinted = isDataFilePrettyPrinted;
+    }
+
+    public boolean isCommandJournalEnabled() {
+        return isCommandJournalEnabled;
+    }
+
+    public void setCommandJournalEnabled(boolean isCommandJournalEnabled) {
+        this.isCommandJournalEnabled = isCommandJournalEnabled;
+    }
+
+    public boolean isDeltaStorageEnabled() {
+        return isDeltaStorageEnabled;
+    }
+
+    public void setDeltaStorageEnabled(boolean isDeltaStorageEnabled) {
+        this.isDeltaStorageEnabled = isDeltaStorageEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +71,16 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && isDataFilePrettyPrinted == o.isDataFilePrettyPrinted
+                && isCommandJournalEnabled == o.isCommandJournalEnabled
+                && isDeltaStorageEnabled == o.isDeltaStorageEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, isDataFilePrettyPrinted, isCommandJournalEnabled,
+                isDeltaStorageEnabled);
     }
 
     @Override
@@ -1,10 +1,15 @@
 package peoplesoft.commons.util;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +17,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +81,70 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, so it is never left partially written.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        Path tempFile = createTempSibling(file);
+        try {
+            Files.write(tempFile, content.getBytes(CHARSET));
+            moveAtomically(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Appends given string to a file, and flushes it to the disk before returning.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        createParentDirsOfFile(file);
+        ByteBuffer bytes = ByteBuffer.wrap(content.getBytes(CHARSET));
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Truncates {@code file} to {@code size} bytes, and flushes it to the disk before returning.
+     * Does nothing if the file is not longer than that.
+     */
+    public static void truncateFile(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Creates an empty temporary file in the same directory as {@code file}, creating the directory if needed.
+     * The temporary file can later be moved over {@code file} with {@link #moveAtomically(Path, Path)}.
+     */
+    public static Path createTempSibling(Path file) throws IOException {
+        Path parentDir = file.toAbsolutePath().getParent();
+        Files.createDirectories(parentDir);
+        return Files.createTempFile(parentDir, file.getFileName().toString(), TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Flushes {@code source} to the disk, then moves it over {@code target} in a single step, so that
+     * {@code target} holds either its old or its new contents even if the application crashes midway.
+     * Falls back to a plain replacing move if the file system does not support atomic moves.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
 }
@@ -0,0 +1,39 @@
+package peoplesoft.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical instances of an immutable type, so that equal values can share a single instance.
+ * Instances are only held weakly, so values that are no longer used elsewhere are dropped from the pool.
+ *
+ * @param <T> an immutable type with value-based {@code equals} and {@code hashCode}
+ */
+public class Interner<T> {
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}. If there is none, {@code value} becomes the canonical
+     * instance.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> ref = pool.get(value);
+        T canonical = ref == null ? null : ref.get();
+        if (canonical == null) {
+            pool.put(value, new WeakReference<>(value));
+            canonical = value;
+        }
+        return canonical;
+    }
+
+    /**
+     * Returns the number of canonical instances in the pool, including ones that are about to be dropped.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+}
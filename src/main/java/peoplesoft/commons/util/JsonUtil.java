@@ -3,6 +3,8 @@ package peoplesoft.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -12,17 +14,21 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import peoplesoft.commons.core.LogsCenter;
@@ -46,12 +52,32 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, true);
+    }
+
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isPrettyPrinted)
+            throws IOException {
+        ObjectWriter writer = isPrettyPrinted ? objectMapper.writerWithDefaultPrettyPrinter() : objectMapper.writer();
+        // Writes straight to the file through the generator's own buffer, so that no String or byte[]
+        // copy of the whole document is made. The document is written to a temporary file first, so that
+        // a crash midway cannot leave jsonFile partially written.
+        Path tempFile = FileUtil.createTempSibling(jsonFile);
+        try {
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                writer.writeValue(out, objectToSerialize);
+            }
+            FileUtil.moveAtomically(tempFile, jsonFile);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException, JsonMappingException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        // Parses straight from the file so that its contents are never held in memory as a whole
+        try (InputStream in = Files.newInputStream(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -93,10 +119,22 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, true);
+    }
+
+    /**
+     * Saves the Json object to the specified file.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @param isPrettyPrinted whether the file should be indented for readability, at the cost of a larger file
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isPrettyPrinted) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, isPrettyPrinted);
     }
 
 
@@ -116,7 +154,19 @@ public class JsonUtil {
      * @return JSON data representation of the given class instance, in string
      */
     public static <T> String toJsonString(T instance) throws JsonProcessingException {
-        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
+        return toJsonString(instance, true);
+    }
+
+    /**
+     * Converts a given instance of a class into its JSON data string representation
+     * @param instance The T object to be converted into the JSON string
+     * @param isPrettyPrinted whether the string should be indented over multiple lines, instead of on a single line
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toJsonString(T instance, boolean isPrettyPrinted) throws JsonProcessingException {
+        ObjectWriter writer = isPrettyPrinted ? objectMapper.writerWithDefaultPrettyPrinter() : objectMapper.writer();
+        return writer.writeValueAsString(instance);
     }
 
     /**
@@ -176,62 +226,114 @@ public class JsonUtil {
     }
 
     /**
-     * Gets the (non-null) {@code JsonNode} representing the value stored at the given key in the
-     * {@code ObjectNode}.
+     * Reads the value at the current token of the parser as an instance of {@code cls}.
      *
-     * If there is no such node at the given key (i.e. the {@code JsonNode} is {@code null}), then a
-     * {@code JsonMappingException} will be thrown.
+     * The value is read directly from the token stream using the given context, without building an
+     * intermediate {@code JsonNode} tree or a new context. A JSON {@code null} is passed on to the
+     * deserializer's {@code getNullValue}, as {@code JsonParser#readValueAs(Class)} does.
      *
-     * @param node the object to retrieve the value from
-     * @param key the key of the value
+     * @param <T> the type of the value to be returned
+     * @param p the parser, positioned at the first token of the value
      * @param ctx the current deserialization context
-     * @param errMsgFormatter a unary operator that takes the key as an argument, and returns a string
-     * @return the {@code JsonNode} representing the value stored at the given key in the given object
-     * @throws JsonMappingException if there is no such key in the given object
+     * @param cls the type of the value to be returned
+     * @return the deserialized value
+     * @throws IOException if the value could not be read or is invalid
      */
-    public static JsonNode getNonNullNode(ObjectNode node, String key, DeserializationContext ctx,
-            UnaryOperator<String> errMsgFormatter) throws JsonMappingException {
-        JsonNode jsonNode = node.get(key);
-        if (jsonNode == null) {
-            throw JsonUtil.getWrappedIllegalValueException(
-                ctx, errMsgFormatter.apply(key));
+    public static <T> T readValue(JsonParser p, DeserializationContext ctx, Class<T> cls) throws IOException {
+        return readValue(p, ctx, ctx.constructType(cls));
+    }
+
+    /**
+     * Reads the value at the current token of the parser as an instance of the type given by
+     * {@code typeRef}. Used for generic types such as {@code Set<Tag>}.
+     *
+     * @see #readValue(JsonParser, DeserializationContext, Class)
+     */
+    public static <T> T readValue(JsonParser p, DeserializationContext ctx, TypeReference<T> typeRef)
+            throws IOException {
+        return readValue(p, ctx, ctx.getTypeFactory().constructType(typeRef));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T readValue(JsonParser p, DeserializationContext ctx, JavaType type) throws IOException {
+        JsonDeserializer<Object> deserializer = ctx.findRootValueDeserializer(type);
+        if (p.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return (T) deserializer.getNullValue(ctx);
         }
+        return (T) deserializer.deserialize(p, ctx);
+    }
 
-        return jsonNode;
+    /**
+     * Checks that the current token of the parser is {@code expected}.
+     *
+     * @param p the parser
+     * @param expected the expected token, e.g. {@code START_OBJECT}
+     * @param ctx the current deserialization context
+     * @param errMsg the message of the exception thrown if the token does not match
+     * @throws JsonMappingException if the current token is not {@code expected}
+     */
+    public static void requireCurrentToken(JsonParser p, JsonToken expected, DeserializationContext ctx,
+            String errMsg) throws JsonMappingException {
+        if (p.getCurrentToken() != expected) {
+            throw getWrappedIllegalValueException(ctx, errMsg);
+        }
     }
 
     /**
-     * Gets the (non-null) {@code JsonNode} of type {@code T} representing the value stored at the given key
-     * in the {@code ObjectNode}.
+     * Returns the string at the current token of the parser.
      *
-     * Generally, the only meaningful types for {@code T} are subclasses of {@code JsonNode}, including but
-     * not limited to {@code ObjectNode}, {@code TextNode}, and {@code IntNode}.
+     * @throws JsonMappingException with {@code errMsg} if the current token is not a string
+     */
+    public static String getTextValue(JsonParser p, DeserializationContext ctx, String errMsg)
+            throws IOException {
+        requireCurrentToken(p, JsonToken.VALUE_STRING, ctx, errMsg);
+        return p.getText();
+    }
+
+    /**
+     * Returns the boolean at the current token of the parser.
      *
-     * If there is no such node at the given key (i.e. the {@code JsonNode} is {@code null}), then a
-     * {@code JsonMappingException} will be thrown.
+     * @throws JsonMappingException with {@code errMsg} if the current token is not a boolean
+     */
+    public static boolean getBooleanValue(JsonParser p, DeserializationContext ctx, String errMsg)
+            throws JsonMappingException {
+        JsonToken token = p.getCurrentToken();
+        if (token == null || !token.isBoolean()) {
+            throw getWrappedIllegalValueException(ctx, errMsg);
+        }
+        return token == JsonToken.VALUE_TRUE;
+    }
+
+    /**
+     * Returns the {@code int} at the current token of the parser.
      *
-     * If the type of the node does not match {@code cls}, then a {@code JsonMappingException} will also be
-     * thrown.
+     * @throws JsonMappingException with {@code errMsg} if the current token is not an integer that fits in an
+     *         {@code int}
+     */
+    public static int getIntValue(JsonParser p, DeserializationContext ctx, String errMsg) throws IOException {
+        if (p.getCurrentToken() != JsonToken.VALUE_NUMBER_INT || p.getNumberType() != JsonParser.NumberType.INT) {
+            throw getWrappedIllegalValueException(ctx, errMsg);
+        }
+        return p.getIntValue();
+    }
+
+    /**
+     * Checks that a field which is required in a JSON object has been read.
      *
-     * @param <T> the type of {@code JsonNode} to be returned
-     * @param node the object to retrieve the value from
-     * @param key the key of the value
+     * @param <T> the type of the field
+     * @param value the value read for the field, or {@code null} if the field was absent
+     * @param key the key of the field
      * @param ctx the current deserialization context
      * @param errMsgFormatter a unary operator that takes the key as an argument, and returns a string
-     * @param cls the type of {@code JsonNode} to be returned
-     * @return the {@code JsonNode} representing the value stored at the given key in the given object
-     * @throws JsonMappingException if there is no such key in the given object, or the type of the
-     *         {@code JsonNode} does not match {@code cls}
+     * @return {@code value}
+     * @throws JsonMappingException if {@code value} is {@code null}
      */
-    public static <T> T getNonNullNodeWithType(ObjectNode node, String key, DeserializationContext ctx,
-            UnaryOperator<String> errMsgFormatter, Class<T> cls) throws JsonMappingException {
-        JsonNode jsonNode = getNonNullNode(node, key, ctx, errMsgFormatter);
-        if (!cls.isInstance(jsonNode)) {
-            throw JsonUtil.getWrappedIllegalValueException(
-                ctx, errMsgFormatter.apply(key));
+    public static <T> T requireField(T value, String key, DeserializationContext ctx,
+            UnaryOperator<String> errMsgFormatter) throws JsonMappingException {
+        if (value == null) {
+            throw getWrappedIllegalValueException(ctx, errMsgFormatter.apply(key));
         }
-
-        return cls.cast(jsonNode);
+        return value;
     }
 
     /**
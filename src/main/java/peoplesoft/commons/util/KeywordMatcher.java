@@ -0,0 +1,153 @@
+package peoplesoft.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A set of keywords compiled into an automaton that finds which of them are equal to the words of a text, ignoring
+ * case, in a single pass over the text. The time taken depends on the length of the text, but not on the number of
+ * keywords.
+ *
+ * The automaton is a trie of the keywords in lower case: each state is a prefix of a keyword, and reading a
+ * character moves to the longer prefix, or to no state if no keyword has it. A word is equal to the keyword of the
+ * state reached at its end, if any. Immutable.
+ */
+public class KeywordMatcher {
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    private static final char[] NO_LABELS = new char[0];
+    private static final int[] NO_TARGETS = new int[0];
+
+    // For each state, the characters it has transitions on in ascending order, the states they lead to, and the
+    // index of the keyword that ends in it, or NONE.
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] keywordIndexes;
+
+    private final int keywordCount;
+    private final boolean hasUnmatchableKeyword;
+
+    /**
+     * Compiles {@code keywords}. Equal keywords, ignoring case, share an index. A keyword that is empty or contains
+     * whitespace can never be equal to a word.
+     */
+    public KeywordMatcher(Collection<String> keywords) {
+        requireNonNull(keywords);
+        List<Map<Character, Integer>> transitions = new ArrayList<>();
+        List<Integer> endingKeywords = new ArrayList<>();
+        transitions.add(new TreeMap<>());
+        endingKeywords.add(NONE);
+
+        int count = 0;
+        boolean hasUnmatchable = false;
+        for (String keyword : keywords) {
+            if (keyword.isEmpty() || keyword.chars().anyMatch(c -> StringUtil.isWhitespace((char) c))) {
+                hasUnmatchable = true;
+                continue;
+            }
+
+            int state = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                Map<Character, Integer> next = transitions.get(state);
+                char c = StringUtil.toLowerCase(keyword.charAt(i));
+                if (!next.containsKey(c)) {
+                    next.put(c, transitions.size());
+                    transitions.add(new TreeMap<>());
+                    endingKeywords.add(NONE);
+                }
+                state = next.get(c);
+            }
+            if (endingKeywords.get(state) == NONE) {
+                endingKeywords.set(state, count++);
+            }
+        }
+
+        int stateCount = transitions.size();
+        labels = new char[stateCount][];
+        targets = new int[stateCount][];
+        keywordIndexes = new int[stateCount];
+        for (int state = 0; state < stateCount; state++) {
+            Map<Character, Integer> next = transitions.get(state);
+            labels[state] = next.isEmpty() ? NO_LABELS : new char[next.size()];
+            targets[state] = next.isEmpty() ? NO_TARGETS : new int[next.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> transition : next.entrySet()) {
+                labels[state][i] = transition.getKey();
+                targets[state][i] = transition.getValue();
+                i++;
+            }
+            keywordIndexes[state] = endingKeywords.get(state);
+        }
+        keywordCount = count;
+        hasUnmatchableKeyword = hasUnmatchable;
+    }
+
+    /**
+     * Returns the number of distinct keywords that can be equal to a word, which are indexed from 0.
+     */
+    public int getKeywordCount() {
+        return keywordCount;
+    }
+
+    /**
+     * Returns true if some keyword can never be equal to a word, so that not all keywords can be found.
+     */
+    public boolean hasUnmatchableKeyword() {
+        return hasUnmatchableKeyword;
+    }
+
+    /**
+     * Sets the indexes in {@code found} of the keywords equal to a whitespace-separated word in {@code text}.
+     */
+    public void findWords(CharSequence text, BitSet found) {
+        requireNonNull(text);
+        requireNonNull(found);
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (StringUtil.isWhitespace(c)) {
+                accept(state, found);
+                state = ROOT;
+            } else if (state != NONE) {
+                state = next(state, StringUtil.toLowerCase(c));
+            }
+        }
+        accept(state, found);
+    }
+
+    /**
+     * Sets the index in {@code found} of the keyword equal to the whole of {@code text}, if any.
+     */
+    public void findWhole(CharSequence text, BitSet found) {
+        requireNonNull(text);
+        requireNonNull(found);
+        int state = ROOT;
+        for (int i = 0; i < text.length() && state != NONE; i++) {
+            state = next(state, StringUtil.toLowerCase(text.charAt(i)));
+        }
+        accept(state, found);
+    }
+
+    private void accept(int state, BitSet found) {
+        if (state != NONE && keywordIndexes[state] != NONE) {
+            found.set(keywordIndexes[state]);
+        }
+    }
+
+    private int next(int state, char c) {
+        char[] stateLabels = labels[state];
+        // Most states have a single transition, which is not worth a binary search
+        if (stateLabels.length == 1) {
+            return stateLabels[0] == c ? targets[state][0] : NONE;
+        }
+        int i = Arrays.binarySearch(stateLabels, c);
+        return i < 0 ? NONE : targets[state][i];
+    }
+}
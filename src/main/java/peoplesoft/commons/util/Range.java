@@ -0,0 +1,110 @@
+package peoplesoft.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static peoplesoft.commons.util.AppUtil.checkArgument;
+
+import java.util.NavigableMap;
+import java.util.Objects;
+
+/**
+ * Represents a range of values, which includes its bounds. Either bound may be absent. Immutable.
+ *
+ * @param <T> type of the values
+ */
+public class Range<T extends Comparable<? super T>> {
+    public static final String MESSAGE_CONSTRAINTS = "The lower bound of a range cannot be above its upper bound";
+
+    private static final Range<?> ALL = new Range<>(null, null);
+
+    private final T lower;
+    private final T upper;
+
+    private Range(T lower, T upper) {
+        checkArgument(lower == null || upper == null || lower.compareTo(upper) <= 0, MESSAGE_CONSTRAINTS);
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    /**
+     * Returns the range of all values.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<? super T>> Range<T> all() {
+        return (Range<T>) ALL;
+    }
+
+    /**
+     * Returns the range of values from {@code lower} to {@code upper}. A null bound is absent.
+     */
+    public static <T extends Comparable<? super T>> Range<T> of(T lower, T upper) {
+        return lower == null && upper == null ? all() : new Range<>(lower, upper);
+    }
+
+    /**
+     * Returns the range of values not below {@code lower}.
+     */
+    public static <T extends Comparable<? super T>> Range<T> atLeast(T lower) {
+        return new Range<>(requireNonNull(lower), null);
+    }
+
+    /**
+     * Returns the range of values not above {@code upper}.
+     */
+    public static <T extends Comparable<? super T>> Range<T> atMost(T upper) {
+        return new Range<>(null, requireNonNull(upper));
+    }
+
+    /**
+     * Returns true if this range includes all values.
+     */
+    public boolean isAll() {
+        return lower == null && upper == null;
+    }
+
+    /**
+     * Returns true if {@code value} is in this range.
+     */
+    public boolean contains(T value) {
+        requireNonNull(value);
+        return (lower == null || lower.compareTo(value) <= 0) && (upper == null || upper.compareTo(value) >= 0);
+    }
+
+    /**
+     * Returns the view of the portion of {@code map} with keys in this range.
+     */
+    public <V> NavigableMap<T, V> subMap(NavigableMap<T, V> map) {
+        requireNonNull(map);
+        if (lower == null) {
+            return upper == null ? map : map.headMap(upper, true);
+        }
+        return upper == null ? map.tailMap(lower, true) : map.subMap(lower, true, upper, true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof Range)) {
+            return false;
+        }
+
+        Range<?> otherRange = (Range<?>) other;
+        return Objects.equals(lower, otherRange.lower)
+                && Objects.equals(upper, otherRange.upper);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lower, upper);
+    }
+
+    @Override
+    public String toString() {
+        if (lower == null) {
+            return upper == null ? "any" : "at most " + upper;
+        }
+        return upper == null ? "at least " + lower : lower + " to " + upper;
+    }
+}
@@ -5,7 +5,8 @@ import static peoplesoft.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * Helper functions for handling strings.
@@ -27,15 +28,173 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
-        String preppedWord = word.trim();
-        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        // Bounds of word.trim(), found without creating a substring
+        int wordStart = 0;
+        int wordEnd = word.length();
+        while (wordStart < wordEnd && word.charAt(wordStart) <= ' ') {
+            wordStart++;
+        }
+        while (wordEnd > wordStart && word.charAt(wordEnd - 1) <= ' ') {
+            wordEnd--;
+        }
+        checkArgument(wordStart < wordEnd, "Word parameter cannot be empty");
+        for (int i = wordStart; i < wordEnd; i++) {
+            checkArgument(!isWhitespace(word.charAt(i)), "Word parameter should be a single word");
+        }
+        int wordLength = wordEnd - wordStart;
+
+        int i = 0;
+        int length = sentence.length();
+        while (i < length) {
+            while (i < length && isWhitespace(sentence.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < length && !isWhitespace(sentence.charAt(i))) {
+                i++;
+            }
+            if (i - start == wordLength && sentence.regionMatches(true, start, word, wordStart, wordLength)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+    /**
+     * Returns true if {@code lowerCaseWords} contains {@code lowerCaseWord}.
+     * A faster form of {@link #containsWordIgnoreCase(String, String)} for sentences that are searched many times,
+     * which takes the words of the sentence from {@link #toLowerCaseWords(String)}, and a word from
+     * {@link #toLowerCase(String)}.
+     */
+    public static boolean containsLowerCaseWord(String[] lowerCaseWords, String lowerCaseWord) {
+        requireNonNull(lowerCaseWords);
+        requireNonNull(lowerCaseWord);
+        for (String candidate : lowerCaseWords) {
+            if (candidate.equals(lowerCaseWord)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    /**
+     * Returns the words in {@code sentence}, as separated by whitespace, each converted by
+     * {@link #toLowerCase(String)}.
+     */
+    public static String[] toLowerCaseWords(String sentence) {
+        requireNonNull(sentence);
+        String[] words = sentence.trim().split("\\s+");
+        if (words.length == 1 && words[0].isEmpty()) {
+            return new String[0];
+        }
+        for (int i = 0; i < words.length; i++) {
+            words[i] = toLowerCase(words[i]);
+        }
+        return words;
+    }
+
+    /**
+     * Returns the runs of letters and digits in {@code s}, in lower case as converted by
+     * {@link #toLowerCase(String)}, without duplicates.
+     *   <br>examples:<pre>
+     *       toLowerCaseTokens("alice@Example.com") == {"alice", "example", "com"}
+     *       toLowerCaseTokens("#08-111, Ave 8") == {"08", "111", "ave", "8"}
+     *       </pre>
+     */
+    public static String[] toLowerCaseTokens(String s) {
+        requireNonNull(s);
+        Set<String> tokens = new LinkedHashSet<>();
+        int start = -1;
+        for (int i = 0; i <= s.length(); i++) {
+            boolean isTokenChar = i < s.length() && Character.isLetterOrDigit(s.charAt(i));
+            if (isTokenChar && start == -1) {
+                start = i;
+            } else if (!isTokenChar && start != -1) {
+                tokens.add(toLowerCase(s.substring(start, i)));
+                start = -1;
+            }
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the number of single character insertions, deletions, substitutions and swaps of adjacent characters
+     * needed to change {@code a} into {@code b}, or {@code maxDistance + 1} if more than {@code maxDistance} are
+     * needed. Each character is swapped or edited at most once, as in the optimal string alignment distance.
+     * Only the cells of the edit table within {@code maxDistance} of its diagonal are computed.
+     */
+    public static int editDistance(String a, String b, int maxDistance) {
+        requireNonNull(a);
+        requireNonNull(b);
+        checkArgument(maxDistance >= 0, "Maximum distance should not be negative");
+        if (Math.abs(a.length() - b.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        int tooFar = maxDistance + 1;
+        // Distances from the first i - 2, i - 1 and i characters of a to each prefix of b
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = Math.min(j, tooFar);
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(b.length(), i + maxDistance);
+            current[from - 1] = from == 1 ? Math.min(i, tooFar) : tooFar;
+            int rowMinimum = current[from - 1];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                int deletion = previous[j] + 1;
+                int insertion = current[j - 1] + 1;
+                int distance = Math.min(substitution, Math.min(deletion, insertion));
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    distance = Math.min(distance, beforePrevious[j - 2] + 1);
+                }
+                current[j] = Math.min(tooFar, distance);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (to < b.length()) {
+                current[to + 1] = tooFar;
+            }
+            if (rowMinimum == tooFar) {
+                return tooFar;
+            }
+            int[] reused = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = reused;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * Returns {@code s} in lower case, one character at a time and regardless of locale.
+     * Two strings are equal ignoring case, as in {@link String#equalsIgnoreCase(String)}, if and only if they are
+     * equal after this conversion.
+     */
+    public static String toLowerCase(String s) {
+        requireNonNull(s);
+        char[] chars = s.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Returns {@code c} in lower case, as {@link #toLowerCase(String)} converts each character.
+     */
+    static char toLowerCase(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Returns true if {@code c} is whitespace, as matched by {@code \s} in a regular expression.
+     */
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     /**
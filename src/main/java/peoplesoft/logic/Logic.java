@@ -1,5 +1,6 @@
 package peoplesoft.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javafx.collections.ObservableList;
@@ -23,6 +24,14 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Writes any changes to the address book that have not been saved yet to storage.
+     * Changes are otherwise saved in the background shortly after the command that made them.
+     *
+     * @throws IOException If an error occurs while writing to storage.
+     */
+    void flush() throws IOException;
+
     /**
      * Returns the AddressBook.
      *
@@ -1,7 +1,11 @@
 package peoplesoft.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -15,6 +19,7 @@ import peoplesoft.logic.parser.exceptions.ParseException;
 import peoplesoft.model.Model;
 import peoplesoft.model.ReadOnlyAddressBook;
 import peoplesoft.model.person.Person;
+import peoplesoft.storage.CommandJournal;
 import peoplesoft.storage.Storage;
 
 /**
@@ -22,19 +27,54 @@ import peoplesoft.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_SAVE_RETRIED = "\nThe save will be retried, and changes are kept until then.";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandJournal journal;
+    private final SaveScheduler saveScheduler;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, SaveScheduler.DEFAULT_DELAY_MILLIS);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves changes
+     * to the address book {@code saveDelayMillis} after the first unsaved change.
+     */
+    public LogicManager(Model model, Storage storage, long saveDelayMillis) {
+        this.model = model;
+        this.storage = storage;
+        addressBookParser = new AddressBookParser();
+        journal = null;
+        saveScheduler = new SaveScheduler(model, storage, null, saveDelayMillis);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which records every
+     * executed command in {@code journal} and saves the whole address book less often.
+     */
+    public LogicManager(Model model, Storage storage, CommandJournal journal) {
+        this(model, storage, journal, SaveScheduler.JOURNALED_DELAY_MILLIS);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which records every
+     * executed command in {@code journal} and saves changes to the address book {@code saveDelayMillis} after the
+     * first unsaved change.
+     */
+    public LogicManager(Model model, Storage storage, CommandJournal journal, long saveDelayMillis) {
+        requireNonNull(journal);
         this.model = model;
         this.storage = storage;
+        this.journal = journal;
         addressBookParser = new AddressBookParser();
+        saveScheduler = new SaveScheduler(model, storage, journal, saveDelayMillis);
     }
 
     @Override
@@ -43,17 +83,69 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        // Guards against the address book being written out by the SaveScheduler while it is being modified
+        synchronized (model) {
+            commandResult = command.execute(model);
+
+            if (command.isMutating()) {
+                saveScheduler.requestSave();
+            }
+
+            try {
+                saveScheduler.journalCommand(commandText, command);
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            // The command itself succeeded, so an earlier save that failed is reported along with its result
+            Optional<IOException> saveFailure = saveScheduler.takeUnreportedFailure();
+            if (saveFailure.isPresent()) {
+                commandResult = new CommandResult(commandResult.getFeedbackToUser() + "\n" + FILE_OPS_ERROR_MESSAGE
+                        + saveFailure.get() + MESSAGE_SAVE_RETRIED, commandResult.isShowHelp(), commandResult.isExit());
+            }
         }
 
         return commandResult;
     }
 
+    /**
+     * Re-executes the commands in the journal, which were executed after the address book was last saved, and then
+     * saves the address book. Does nothing if this {@code LogicManager} was not constructed with a journal.
+     * Commands that can no longer be executed are skipped.
+     * This must be called before any command is executed, as commands are only journaled after this.
+     *
+     * @throws IOException if there was an error reading the journal or saving the address book
+     */
+    public void replayJournal() throws IOException {
+        if (journal == null) {
+            return;
+        }
+
+        List<String> entries = journal.readEntries(CommandJournal.getDataFileId(storage.getAddressBookFilePath()));
+        logger.info("Replaying " + entries.size() + " journaled commands from " + journal.getJournalFilePath());
+        synchronized (model) {
+            for (String commandText : entries) {
+                try {
+                    Command command = addressBookParser.parseCommand(commandText);
+                    command.execute(model);
+                    saveScheduler.trackCommand(commandText, command);
+                    if (command.isMutating()) {
+                        saveScheduler.requestSave();
+                    }
+                } catch (ParseException | CommandException e) {
+                    logger.warning("Skipping journaled command [" + commandText + "]: " + e.getMessage());
+                }
+            }
+            saveScheduler.flush();
+            saveScheduler.resetJournal();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        saveScheduler.flush();
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -0,0 +1,216 @@
+package peoplesoft.logic;
+
+import static peoplesoft.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import peoplesoft.commons.core.LogsCenter;
+import peoplesoft.commons.util.StringUtil;
+import peoplesoft.logic.commands.Command;
+import peoplesoft.logic.commands.FindCommand;
+import peoplesoft.logic.commands.FuzzyFindCommand;
+import peoplesoft.logic.commands.ListCommand;
+import peoplesoft.logic.commands.SortCommand;
+import peoplesoft.logic.commands.job.JobFindCommand;
+import peoplesoft.logic.commands.job.JobListCommand;
+import peoplesoft.logic.commands.job.JobSortCommand;
+import peoplesoft.model.Model;
+import peoplesoft.storage.CommandJournal;
+import peoplesoft.storage.Storage;
+
+/**
+ * Saves the address book of a {@code Model} on a background thread.
+ * Save requests that arrive within {@code delayMillis} of each other are coalesced into a single write.
+ * A background save that fails is retried, waiting twice as long after each failure, and the failure is kept to be
+ * reported to the user.
+ * If a {@code CommandJournal} is given, executed commands are also appended to it, and it is emptied each time the
+ * address book is saved.
+ *
+ * The model must only be modified while holding its monitor, which is also held while it is being written out.
+ */
+class SaveScheduler {
+    public static final long DEFAULT_DELAY_MILLIS = 500;
+    /** Commands are already on the disk when journaled, so the whole address book can be saved less often. */
+    public static final long JOURNALED_DELAY_MILLIS = 60_000;
+    public static final long MIN_RETRY_DELAY_MILLIS = 1_000;
+    public static final long MAX_RETRY_DELAY_MILLIS = 300_000;
+
+    /**
+     * The kinds of commands that decide the persons and jobs shown. A command of a kind replaces the effect of any
+     * earlier command of the same kind.
+     */
+    private enum ViewCommandKind {
+        PERSON_FILTER, PERSON_ORDER, JOB_FILTER, JOB_ORDER
+    }
+
+    private static final Map<Class<? extends Command>, ViewCommandKind> VIEW_COMMAND_KINDS = Map.of(
+            FindCommand.class, ViewCommandKind.PERSON_FILTER,
+            FuzzyFindCommand.class, ViewCommandKind.PERSON_FILTER,
+            ListCommand.class, ViewCommandKind.PERSON_FILTER,
+            SortCommand.class, ViewCommandKind.PERSON_ORDER,
+            JobFindCommand.class, ViewCommandKind.JOB_FILTER,
+            JobListCommand.class, ViewCommandKind.JOB_FILTER,
+            JobSortCommand.class, ViewCommandKind.JOB_ORDER);
+
+    private final Logger logger = LogsCenter.getLogger(SaveScheduler.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final CommandJournal journal;
+    private final long delayMillis;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** True if the model has changes that have not been written to storage yet. Guarded by {@code model}. */
+    private boolean isDirty = false;
+    /** The save that has been scheduled but has not started yet, if any. Guarded by {@code model}. */
+    private ScheduledFuture<?> pendingSave;
+    /** The delay before the last retry of a failed save, or 0 if the last save succeeded. Guarded by {@code model}. */
+    private long retryDelayMillis = 0;
+    /** The failure of the last background save, if it has not been reported yet. Guarded by {@code model}. */
+    private IOException unreportedFailure;
+    /**
+     * The text of the last command executed of each kind in {@code VIEW_COMMAND_KINDS}, in the order they were last
+     * executed. Together they decide which persons and jobs are shown, and in what order. Guarded by {@code model}.
+     */
+    private final Map<ViewCommandKind, String> viewCommandTexts = new LinkedHashMap<>();
+
+    /**
+     * Creates a {@code SaveScheduler} that writes the address book of {@code model} to {@code storage}.
+     *
+     * @param journal the journal to record executed commands in, or null if commands should not be journaled
+     */
+    SaveScheduler(Model model, Storage storage, CommandJournal journal, long delayMillis) {
+        requireAllNonNull(model, storage);
+        this.model = model;
+        this.storage = storage;
+        this.journal = journal;
+        this.delayMillis = delayMillis;
+    }
+
+    /**
+     * Appends {@code commandText}, which was executed successfully as {@code command}, to the journal.
+     * Must be called while holding the monitor of the model, right after the command is executed.
+     *
+     * @throws IOException if there was an error writing to the journal
+     */
+    public void journalCommand(String commandText, Command command) throws IOException {
+        assert Thread.holdsLock(model);
+        if (journal == null) {
+            return;
+        }
+        trackCommand(commandText, command);
+        journal.append(commandText);
+    }
+
+    /**
+     * Keeps track of the commands that decide which persons and jobs are shown, and in what order, since the indexes
+     * in later commands refer to them. Must be called while holding the monitor of the model.
+     */
+    public void trackCommand(String commandText, Command command) {
+        assert Thread.holdsLock(model);
+        ViewCommandKind kind = VIEW_COMMAND_KINDS.get(command.getClass());
+        if (kind != null) {
+            // Moves the kind to the end, so that the commands are replayed in the order they were last executed
+            viewCommandTexts.remove(kind);
+            viewCommandTexts.put(kind, commandText);
+        }
+    }
+
+    /**
+     * Marks the model as modified, and schedules a save if one is not already pending.
+     */
+    public void requestSave() {
+        synchronized (model) {
+            isDirty = true;
+            if (pendingSave == null) {
+                pendingSave = executor.schedule(this::runScheduledSave, delayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Cancels any pending save and writes outstanding changes to storage on the calling thread.
+     *
+     * @throws IOException if there was an error writing to storage. The changes are kept marked as unsaved.
+     */
+    public void flush() throws IOException {
+        synchronized (model) {
+            if (pendingSave != null) {
+                pendingSave.cancel(false);
+                pendingSave = null;
+            }
+            saveIfDirty();
+        }
+    }
+
+    /**
+     * Returns the failure of the last background save, if any, unless it was returned before.
+     * Must be called while holding the monitor of the model.
+     */
+    public Optional<IOException> takeUnreportedFailure() {
+        assert Thread.holdsLock(model);
+        Optional<IOException> failure = Optional.ofNullable(unreportedFailure);
+        unreportedFailure = null;
+        return failure;
+    }
+
+    private void runScheduledSave() {
+        synchronized (model) {
+            pendingSave = null;
+            try {
+                saveIfDirty();
+            } catch (IOException ioe) {
+                logger.warning(LogicManager.FILE_OPS_ERROR_MESSAGE + StringUtil.getDetails(ioe));
+                unreportedFailure = ioe;
+                retryDelayMillis = retryDelayMillis == 0
+                        ? Math.max(delayMillis, MIN_RETRY_DELAY_MILLIS)
+                        : Math.min(retryDelayMillis * 2, Math.max(delayMillis, MAX_RETRY_DELAY_MILLIS));
+                pendingSave = executor.schedule(this::runScheduledSave, retryDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void saveIfDirty() throws IOException {
+        assert Thread.holdsLock(model);
+        if (!isDirty) {
+            return;
+        }
+        storage.saveAddressBook(model.getAddressBook());
+        isDirty = false;
+        retryDelayMillis = 0;
+        unreportedFailure = null;
+
+        if (journal != null) {
+            resetJournal();
+        }
+    }
+
+    /**
+     * Empties the journal, so that commands journaled from now on are replayed on top of the saved address book.
+     * Must be called while holding the monitor of the model.
+     *
+     * @throws IOException if there was an error reading the saved address book or writing to the journal
+     */
+    public void resetJournal() throws IOException {
+        assert Thread.holdsLock(model);
+        assert journal != null;
+
+        // Persons and jobs are referred to by their index in the displayed lists, so the commands that decide them
+        // must be re-applied before any commands journaled from now on are replayed
+        journal.reset(CommandJournal.getDataFileId(storage.getAddressBookFilePath()),
+                new ArrayList<>(viewCommandTexts.values()));
+    }
+}
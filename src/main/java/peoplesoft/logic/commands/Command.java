@@ -17,4 +17,13 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command may change data that is saved to storage.
+     * Commands that only read or filter the data should override this to return false, so that no save is
+     * scheduled after they are executed.
+     */
+    public boolean isMutating() {
+        return true;
+    }
+
 }
@@ -1,23 +1,27 @@
 package peoplesoft.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static peoplesoft.logic.parser.CliSyntax.PREFIX_TAG;
 
 import peoplesoft.commons.core.Messages;
 import peoplesoft.model.Model;
 import peoplesoft.model.person.PersonContainsKeywordsPredicate;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all persons in address book whose name or tags contain all of the argument keywords, and whose
+ * tags satisfy the argument tag conditions.
+ * Keyword and tag matching is case insensitive.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names or tags contain all "
+            + "of the specified keywords (case-insensitive), who have one of the tags in each " + PREFIX_TAG
+            + " condition, and who have none of the tags excluded with " + PREFIX_TAG + "-, and displays them as a "
+            + "list with index numbers.\n"
+            + "Parameters: [KEYWORD]... [" + PREFIX_TAG + "TAG[|MORE_TAGS]...]... [" + PREFIX_TAG + "-TAG]...\n"
+            + "Example: " + COMMAND_WORD + " alice " + PREFIX_TAG + "Hardware|Display " + PREFIX_TAG + "-Intern";
 
     private final PersonContainsKeywordsPredicate predicate;
 
@@ -33,6 +37,11 @@ public class FindCommand extends Command {
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
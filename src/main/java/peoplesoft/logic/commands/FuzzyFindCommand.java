@@ -0,0 +1,51 @@
+package peoplesoft.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import peoplesoft.commons.core.Messages;
+import peoplesoft.model.Model;
+import peoplesoft.model.person.PersonFuzzyMatchPredicate;
+
+/**
+ * Finds and lists all persons in address book with a word in their name, email or address that is close to each
+ * of the argument keywords, from the closest match to the furthest.
+ * Keyword matching is case insensitive and tolerates a few typos.
+ */
+public class FuzzyFindCommand extends Command {
+
+    public static final String COMMAND_WORD = "fuzzyfind";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons with a word in their name, email "
+            + "or address that is close to each of the specified keywords (case-insensitive), allowing one typo in "
+            + "keywords of " + (PersonFuzzyMatchPredicate.MAX_EXACT_LENGTH + 1) + " to "
+            + PersonFuzzyMatchPredicate.MAX_ONE_EDIT_LENGTH + " characters and two in longer ones, and displays them "
+            + "as a list with index numbers, closest matches first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alcie paulin";
+
+    private final PersonFuzzyMatchPredicate predicate;
+
+    public FuzzyFindCommand(PersonFuzzyMatchPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FuzzyFindCommand // instanceof handles nulls
+                && predicate.equals(((FuzzyFindCommand) other).predicate)); // state check
+    }
+}
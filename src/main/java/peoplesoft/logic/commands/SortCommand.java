@@ -0,0 +1,92 @@
+package peoplesoft.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static peoplesoft.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import peoplesoft.model.Model;
+import peoplesoft.model.job.Money;
+import peoplesoft.model.person.Person;
+
+/**
+ * Sorts the listed persons by a field. The list stays sorted as persons are added, edited and found.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String DESCENDING = "desc";
+
+    /** The field that restores the order the persons were added in. */
+    public static final String UNSORTED = "none";
+
+    /** Orders of persons by each field in a model, by name of the field. Ties are broken by ID. */
+    public static final Map<String, Function<Model, Comparator<Person>>> FIELDS;
+
+    static {
+        Comparator<Person> byId = Comparator.comparing(Person::getPersonId);
+        Map<String, Function<Model, Comparator<Person>>> fields = new LinkedHashMap<>();
+        fields.put("name", model -> Comparator.<Person, String>comparing(person -> person.getName().fullName,
+                String.CASE_INSENSITIVE_ORDER).thenComparing(byId));
+        fields.put("id", model -> byId);
+        fields.put("rate", model -> Comparator.<Person, Money>comparing(person -> person.getRate().getAmount())
+                .thenComparing(byId));
+        // Pay still owed for the jobs assigned to each person
+        fields.put("outstanding", model -> Comparator.<Person, Money>comparing(person ->
+                model.getPaySummary(person).getUnpaid()).thenComparing(byId));
+        FIELDS = Collections.unmodifiableMap(fields);
+    }
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the listed persons by the specified field, "
+            + "in ascending order, or descending order if " + DESCENDING + " is specified.\n"
+            + "Parameters: FIELD [" + DESCENDING + "], where FIELD is one of " + String.join(", ", FIELDS.keySet())
+            + ", or " + UNSORTED + " to show the persons in the order they were added\n"
+            + "Example: " + COMMAND_WORD + " rate " + DESCENDING;
+
+    public static final String MESSAGE_SUCCESS = "Sorted persons by %s%s";
+    public static final String MESSAGE_UNSORTED = "Showing persons in the order they were added";
+
+    private final String field;
+    private final boolean isDescending;
+
+    /**
+     * Creates a {@code SortCommand} to sort the listed persons by {@code field}, which must be in {@link #FIELDS},
+     * or to stop sorting them if {@code field} is {@link #UNSORTED}.
+     */
+    public SortCommand(String field, boolean isDescending) {
+        requireNonNull(field);
+        checkArgument(FIELDS.containsKey(field) || (field.equals(UNSORTED) && !isDescending));
+        this.field = field;
+        this.isDescending = isDescending;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (field.equals(UNSORTED)) {
+            model.sortFilteredPersonList(null);
+            return new CommandResult(MESSAGE_UNSORTED);
+        }
+        Comparator<Person> comparator = FIELDS.get(field).apply(model);
+        model.sortFilteredPersonList(isDescending ? comparator.reversed() : comparator);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, field, isDescending ? " (descending)" : ""));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortCommand // instanceof handles nulls
+                && field.equals(((SortCommand) other).field)
+                && isDescending == ((SortCommand) other).isDescending); // state check
+    }
+}
@@ -55,7 +55,7 @@ public class JobAssignCommand extends Command {
         // TODO: Arguably does not follow SRP/LoD
         ArgumentMultimap argumentMultimap = new JobAssignCommandParser().parse(args);
         try {
-            jobId = new ID(ParserUtil.parseString(argumentMultimap.getPreamble()));
+            jobId = ID.of(ParserUtil.parseString(argumentMultimap.getPreamble()));
         } catch (IllegalArgumentException e) { // from ID constructor
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                 JobAssignCommand.MESSAGE_USAGE));
@@ -79,15 +79,8 @@ public class JobAssignCommand extends Command {
         }
 
         Person person = lastShownList.get(personIndex.getZeroBased());
-        try {
-            // TODO: This code breaks LoD.
-            Job assignedJob = model.getAddressBook().getJobList()
-                    .filtered(job -> job.getJobId().equals(jobId)).get(0);
-            Employment.getInstance().associate(assignedJob, person);
-        } catch (IndexOutOfBoundsException e) {
-            // Asserts that filtered list should always contain exactly the filtered element
-            assert false;
-        }
+        Job assignedJob = model.getJob(jobId);
+        Employment.getInstance().associate(assignedJob, person);
 
         List<Job> jobs = Employment.getInstance().getJobs(person, model);
 
@@ -0,0 +1,67 @@
+package peoplesoft.logic.commands.job;
+
+import static java.util.Objects.requireNonNull;
+import static peoplesoft.logic.parser.CliSyntax.PREFIX_DURATION;
+import static peoplesoft.logic.parser.CliSyntax.PREFIX_PAY;
+import static peoplesoft.logic.parser.CliSyntax.PREFIX_RATE;
+
+import peoplesoft.logic.commands.Command;
+import peoplesoft.logic.commands.CommandResult;
+import peoplesoft.logic.commands.exceptions.CommandException;
+import peoplesoft.logic.parser.exceptions.ParseException;
+import peoplesoft.logic.parser.job.JobFindCommandParser;
+import peoplesoft.model.Model;
+import peoplesoft.model.job.JobQuery;
+
+/**
+ * Lists the {@code Jobs} with pay, rate and duration in given ranges, and a given paid status.
+ */
+public class JobFindCommand extends Command {
+
+    public static final String COMMAND_WORD = "jobfind";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Lists the jobs with pay, rate and duration (in hours) in the specified ranges, and the specified paid "
+        + "status. A range is MIN-MAX, MIN-, -MAX or a single value.\n"
+        + "Parameters: "
+        + "[" + JobFindCommandParser.STATUS_PAID + " OR " + JobFindCommandParser.STATUS_UNPAID + "] "
+        + "[" + PREFIX_PAY + "RANGE] "
+        + "[" + PREFIX_RATE + "RANGE] "
+        + "[" + PREFIX_DURATION + "RANGE]\n"
+        + "Example: " + COMMAND_WORD + " " + JobFindCommandParser.STATUS_UNPAID + " " + PREFIX_PAY + "500-";
+
+    public static final String MESSAGE_SUCCESS = "Listed %d jobs with %s: %s";
+
+    private final JobQuery query;
+
+    /**
+     * Creates a {@code JobFindCommand} to list the jobs that match a {@code JobQuery} parsed from the arguments.
+     *
+     * @param args Arguments.
+     * @throws ParseException Thrown if there is an error with parsing.
+     */
+    public JobFindCommand(String args) throws ParseException {
+        requireNonNull(args);
+        query = new JobFindCommandParser().parse(args);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        model.updateFilteredJobList(query);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredJobList().size(), query,
+                model.getFilteredJobList()));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof JobFindCommand // instanceof handles nulls
+            && query.equals(((JobFindCommand) other).query));
+    }
+}
@@ -2,11 +2,16 @@ package peoplesoft.logic.commands.job;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import peoplesoft.logic.commands.Command;
 import peoplesoft.logic.commands.CommandResult;
 import peoplesoft.logic.commands.exceptions.CommandException;
 import peoplesoft.model.Model;
+import peoplesoft.model.person.Name;
 import peoplesoft.model.util.Employment;
+import peoplesoft.model.util.ID;
 
 /**
  * Lists the {@code Jobs} stored in {@code AddressBook}.
@@ -23,7 +28,18 @@ public class JobListCommand extends Command {
         requireNonNull(model);
         // TODO: UI interaction, currently prints to console
         model.updateFilteredJobList(Model.PREDICATE_SHOW_ALL_JOBS);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredJobList(),
-                Employment.getInstance().getAllJobs()));
+        Map<ID, Name> employment = new HashMap<>();
+        Employment.getInstance().getAllJobs().forEach((jobId, personId) -> {
+            // An assignment to a missing person is left out, rather than failing the whole list
+            if (model.hasPerson(personId)) {
+                employment.put(jobId, model.getPerson(personId).getName());
+            }
+        });
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredJobList(), employment));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
     }
 }
@@ -49,21 +49,14 @@ public class JobMarkCommand extends Command {
             throw new CommandException(MESSAGE_JOB_NOT_FOUND);
         }
 
-        try {
-            // TODO: This line breaks LoD
-            Job jobToMark = model.getAddressBook().getJobList()
-                .filtered(job -> job.getJobId().equals(toMark)).get(0);
-            // Creates immutable instances and replaces the existing ones
-            if (jobToMark.hasPaid()) {
-                state = true;
-                model.setJob(jobToMark, jobToMark.setAsNotPaid());
-            } else {
-                state = false;
-                model.setJob(jobToMark, jobToMark.setAsPaid());
-            }
-        } catch (IndexOutOfBoundsException e) {
-            // Asserts that filtered list should always contain exactly the filtered element
-            assert false;
+        Job jobToMark = model.getJob(toMark);
+        // Creates immutable instances and replaces the existing ones
+        if (jobToMark.hasPaid()) {
+            state = true;
+            model.setJob(jobToMark, jobToMark.setAsNotPaid());
+        } else {
+            state = false;
+            model.setJob(jobToMark, jobToMark.setAsPaid());
         }
         // TODO: rudimentary result message
         return new CommandResult(String.format(MESSAGE_SUCCESS, toMark, state ? "not paid" : "paid"));
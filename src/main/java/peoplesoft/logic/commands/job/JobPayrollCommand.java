@@ -0,0 +1,76 @@
+package peoplesoft.logic.commands.job;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import peoplesoft.commons.core.Messages;
+import peoplesoft.commons.core.index.Index;
+import peoplesoft.logic.commands.Command;
+import peoplesoft.logic.commands.CommandResult;
+import peoplesoft.logic.commands.exceptions.CommandException;
+import peoplesoft.logic.parser.exceptions.ParseException;
+import peoplesoft.logic.parser.job.JobPayrollCommandParser;
+import peoplesoft.model.Model;
+import peoplesoft.model.person.Person;
+
+/**
+ * Shows the total pay of all {@code Jobs}, or of the {@code Jobs} assigned to a {@code Person}.
+ */
+public class JobPayrollCommand extends Command {
+
+    public static final String COMMAND_WORD = "payroll";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Shows how much has been earned, paid and is still unpaid for all jobs, "
+        + "or for the jobs of the person identified by the index number used in the displayed person list.\n"
+        + "Parameters: [INDEX]\n"
+        + "Example: " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_SUCCESS_ALL = "Payroll for all jobs: %s";
+    public static final String MESSAGE_SUCCESS_PERSON = "Payroll for %s: %s";
+
+    private final Optional<Index> personIndex;
+
+    /**
+     * Creates a {@code JobPayrollCommand} to show the total pay of all jobs, or of the jobs of a {@code Person}.
+     *
+     * @param args Arguments.
+     * @throws ParseException Thrown if there is an error with parsing.
+     */
+    public JobPayrollCommand(String args) throws ParseException {
+        requireNonNull(args);
+        personIndex = new JobPayrollCommandParser().parse(args);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (personIndex.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS_ALL, model.getPaySummary()));
+        }
+
+        List<Person> lastShownList = model.getFilteredPersonList();
+        if (personIndex.get().getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+
+        Person person = lastShownList.get(personIndex.get().getZeroBased());
+        return new CommandResult(String.format(MESSAGE_SUCCESS_PERSON, person.getName(),
+                model.getPaySummary(person)));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof JobPayrollCommand // instanceof handles nulls
+            && personIndex.equals(((JobPayrollCommand) other).personIndex));
+    }
+}
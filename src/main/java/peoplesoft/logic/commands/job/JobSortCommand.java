@@ -0,0 +1,97 @@
+package peoplesoft.logic.commands.job;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import peoplesoft.logic.commands.Command;
+import peoplesoft.logic.commands.CommandResult;
+import peoplesoft.logic.commands.exceptions.CommandException;
+import peoplesoft.logic.parser.exceptions.ParseException;
+import peoplesoft.logic.parser.job.JobSortCommandParser;
+import peoplesoft.model.Model;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.job.Money;
+
+/**
+ * Sorts the listed {@code Jobs} by a field. The list stays sorted as jobs are added, marked and found.
+ */
+public class JobSortCommand extends Command {
+
+    public static final String COMMAND_WORD = "jobsort";
+
+    public static final String DESCENDING = "desc";
+
+    /** The field that restores the order the jobs were added in. */
+    public static final String UNSORTED = "none";
+
+    /** Orders of jobs by each field, by name of the field. Ties are broken by ID. */
+    public static final Map<String, Comparator<Job>> FIELDS;
+
+    static {
+        Comparator<Job> byId = Comparator.comparing(Job::getJobId);
+        Map<String, Comparator<Job>> fields = new LinkedHashMap<>();
+        fields.put("id", byId);
+        fields.put("rate", Comparator.<Job, Money>comparing(job -> job.getRate().getAmount()).thenComparing(byId));
+        fields.put("pay", Comparator.comparing(Job::calculatePay).thenComparing(byId));
+        // Pay that is still owed, which is none for jobs that have been paid
+        Money noPay = new Money(0);
+        fields.put("outstanding", Comparator.<Job, Money>comparing(job -> job.hasPaid() ? noPay : job.calculatePay())
+                .thenComparing(byId));
+        FIELDS = Collections.unmodifiableMap(fields);
+    }
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the listed jobs by the specified field, "
+        + "in ascending order, or descending order if " + DESCENDING + " is specified.\n"
+        + "Parameters: FIELD [" + DESCENDING + "], where FIELD is one of " + String.join(", ", FIELDS.keySet())
+        + ", or " + UNSORTED + " to show the jobs in the order they were added\n"
+        + "Example: " + COMMAND_WORD + " outstanding " + DESCENDING;
+
+    public static final String MESSAGE_SUCCESS = "Sorted jobs by %s%s: %s";
+    public static final String MESSAGE_UNSORTED = "Showing jobs in the order they were added: %s";
+
+    private final String field;
+    private final boolean isDescending;
+
+    /**
+     * Creates a {@code JobSortCommand} to sort the listed jobs by a field parsed from the arguments.
+     *
+     * @param args Arguments.
+     * @throws ParseException Thrown if there is an error with parsing.
+     */
+    public JobSortCommand(String args) throws ParseException {
+        requireNonNull(args);
+        String[] fieldAndOrder = new JobSortCommandParser().parse(args);
+        field = fieldAndOrder[0];
+        isDescending = fieldAndOrder.length > 1;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (field.equals(UNSORTED)) {
+            model.sortFilteredJobList(null);
+            return new CommandResult(String.format(MESSAGE_UNSORTED, model.getFilteredJobList()));
+        }
+        Comparator<Job> comparator = FIELDS.get(field);
+        model.sortFilteredJobList(isDescending ? comparator.reversed() : comparator);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, field, isDescending ? " (descending)" : "",
+                model.getFilteredJobList()));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof JobSortCommand // instanceof handles nulls
+            && field.equals(((JobSortCommand) other).field)
+            && isDescending == ((JobSortCommand) other).isDescending);
+    }
+}
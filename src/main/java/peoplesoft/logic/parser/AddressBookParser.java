@@ -13,13 +13,18 @@ import peoplesoft.logic.commands.DeleteCommand;
 import peoplesoft.logic.commands.EditCommand;
 import peoplesoft.logic.commands.ExitCommand;
 import peoplesoft.logic.commands.FindCommand;
+import peoplesoft.logic.commands.FuzzyFindCommand;
 import peoplesoft.logic.commands.HelpCommand;
 import peoplesoft.logic.commands.ListCommand;
+import peoplesoft.logic.commands.SortCommand;
 import peoplesoft.logic.commands.job.JobAddCommand;
 import peoplesoft.logic.commands.job.JobAssignCommand;
 import peoplesoft.logic.commands.job.JobDeleteCommand;
+import peoplesoft.logic.commands.job.JobFindCommand;
 import peoplesoft.logic.commands.job.JobListCommand;
 import peoplesoft.logic.commands.job.JobMarkCommand;
+import peoplesoft.logic.commands.job.JobPayrollCommand;
+import peoplesoft.logic.commands.job.JobSortCommand;
 import peoplesoft.logic.parser.exceptions.ParseException;
 
 /**
@@ -64,9 +69,15 @@ public class AddressBookParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case FuzzyFindCommand.COMMAND_WORD:
+            return new FuzzyFindCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
+        case SortCommand.COMMAND_WORD:
+            return new SortCommandParser().parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -90,6 +101,15 @@ public class AddressBookParser {
         case JobAssignCommand.COMMAND_WORD:
             return new JobAssignCommand(arguments);
 
+        case JobPayrollCommand.COMMAND_WORD:
+            return new JobPayrollCommand(arguments);
+
+        case JobFindCommand.COMMAND_WORD:
+            return new JobFindCommand(arguments);
+
+        case JobSortCommand.COMMAND_WORD:
+            return new JobSortCommand(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -13,6 +13,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_RATE = new Prefix("r/");
     public static final Prefix PREFIX_DURATION = new Prefix("d/");
+    public static final Prefix PREFIX_PAY = new Prefix("pay/");
 
     // TODO: For {@code JobAssignCommand}, change if needed
     public static final Prefix PREFIX_INDEX = new Prefix("i/");
@@ -1,17 +1,28 @@
 package peoplesoft.logic.parser;
 
 import static peoplesoft.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static peoplesoft.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 import peoplesoft.logic.commands.FindCommand;
 import peoplesoft.logic.parser.exceptions.ParseException;
 import peoplesoft.model.person.PersonContainsKeywordsPredicate;
+import peoplesoft.model.tag.TagQuery;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
+    /** Separates alternative tags in a tag condition, e.g. {@code t/A|B}. */
+    public static final String TAG_ALTERNATIVE_SEPARATOR = "|";
+    /** Marks a tag that persons must not have, e.g. {@code t/-A}. */
+    public static final String TAG_EXCLUSION_MARKER = "-";
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
@@ -19,15 +30,45 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
+
+        String trimmedPreamble = argMultimap.getPreamble().trim();
+        List<String> keywords = trimmedPreamble.isEmpty()
+                ? Collections.emptyList()
+                : Arrays.asList(trimmedPreamble.split("\\s+"));
+        TagQuery tagQuery = parseTagQuery(argMultimap.getAllValues(PREFIX_TAG));
+
+        if (keywords.isEmpty() && tagQuery.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        return new FindCommand(new PersonContainsKeywordsPredicate(keywords, tagQuery));
+    }
 
-        return new FindCommand(new PersonContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    /**
+     * Parses tag conditions of the form {@code TAG[|TAG]...}, which requires one of the tags, or {@code -TAG},
+     * which excludes the tag, into a {@code TagQuery}.
+     *
+     * @throws ParseException if a tag name is not valid.
+     */
+    private static TagQuery parseTagQuery(List<String> conditions) throws ParseException {
+        List<Set<String>> requiredGroups = new ArrayList<>();
+        Set<String> excludedTags = new LinkedHashSet<>();
+        for (String condition : conditions) {
+            if (condition.startsWith(TAG_EXCLUSION_MARKER)) {
+                excludedTags.add(ParserUtil.parseTag(condition.substring(TAG_EXCLUSION_MARKER.length())).tagName);
+                continue;
+            }
+
+            Set<String> group = new LinkedHashSet<>();
+            // A trailing separator would otherwise be dropped by split
+            for (String tagName : condition.split("\\" + TAG_ALTERNATIVE_SEPARATOR, -1)) {
+                group.add(ParserUtil.parseTag(tagName).tagName);
+            }
+            requiredGroups.add(group);
+        }
+        return new TagQuery(requiredGroups, excludedTags);
     }
 
 }
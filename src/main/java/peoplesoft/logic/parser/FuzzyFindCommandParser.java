@@ -0,0 +1,32 @@
+package peoplesoft.logic.parser;
+
+import static peoplesoft.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import peoplesoft.logic.commands.FuzzyFindCommand;
+import peoplesoft.logic.parser.exceptions.ParseException;
+import peoplesoft.model.person.PersonFuzzyMatchPredicate;
+
+/**
+ * Parses input arguments and creates a new FuzzyFindCommand object
+ */
+public class FuzzyFindCommandParser implements Parser<FuzzyFindCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FuzzyFindCommand
+     * and returns a FuzzyFindCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FuzzyFindCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FuzzyFindCommand.MESSAGE_USAGE));
+        }
+
+        String[] keywords = trimmedArgs.split("\\s+");
+        return new FuzzyFindCommand(new PersonFuzzyMatchPredicate(Arrays.asList(keywords)));
+    }
+
+}
@@ -110,7 +110,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -152,7 +152,7 @@ public class ParserUtil {
         String trim = str.trim();
         Rate res;
         try {
-            res = new Rate(new Money(Double.parseDouble(trim)), Duration.ofHours(1));
+            res = Rate.of(new Money(Double.parseDouble(trim)), Duration.ofHours(1));
         } catch (NumberFormatException e) {
             // TODO: add message/complex rate parsing %s/%s
             throw new ParseException(Rate.MESSAGE_CONSTRAINTS);
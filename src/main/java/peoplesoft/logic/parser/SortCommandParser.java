@@ -0,0 +1,29 @@
+package peoplesoft.logic.parser;
+
+import static peoplesoft.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import peoplesoft.logic.commands.SortCommand;
+import peoplesoft.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SortCommand object
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCommand
+     * and returns a SortCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortCommand parse(String args) throws ParseException {
+        String[] words = args.trim().toLowerCase().split("\\s+");
+        boolean isDescending = words.length == 2 && words[1].equals(SortCommand.DESCENDING);
+        boolean isUnsorted = words.length == 1 && words[0].equals(SortCommand.UNSORTED);
+        boolean isValidField = SortCommand.FIELDS.containsKey(words[0]) || isUnsorted;
+        if (words.length > 2 || (words.length == 2 && !isDescending) || !isValidField) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        }
+        return new SortCommand(words[0], isDescending);
+    }
+
+}
@@ -44,7 +44,7 @@ public class JobAddCommandParser {
         ID id;
         try {
             id = !argMultimap.getPreamble().isBlank()
-                    ? new ID(ParserUtil.parseString(argMultimap.getPreamble()))
+                    ? ID.of(ParserUtil.parseString(argMultimap.getPreamble()))
                     : JobIdFactory.nextId(); // Short circuit does not increment
         } catch (IllegalArgumentException e) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
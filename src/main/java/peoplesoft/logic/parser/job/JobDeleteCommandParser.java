@@ -19,7 +19,7 @@ public class JobDeleteCommandParser {
     public ID parse(String args) throws ParseException {
         try {
             String strVal = ParserUtil.parseString(args); // throws ParseException?
-            return new ID(strVal); // throws IllegalArgumentException
+            return ID.of(strVal); // throws IllegalArgumentException
         } catch (ParseException | IllegalArgumentException e) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, JobDeleteCommand.MESSAGE_USAGE));
@@ -0,0 +1,103 @@
+package peoplesoft.logic.parser.job;
+
+import static peoplesoft.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static peoplesoft.logic.parser.CliSyntax.PREFIX_DURATION;
+import static peoplesoft.logic.parser.CliSyntax.PREFIX_PAY;
+import static peoplesoft.logic.parser.CliSyntax.PREFIX_RATE;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+
+import peoplesoft.commons.util.Range;
+import peoplesoft.logic.commands.job.JobFindCommand;
+import peoplesoft.logic.parser.ArgumentMultimap;
+import peoplesoft.logic.parser.ArgumentTokenizer;
+import peoplesoft.logic.parser.ParserUtil;
+import peoplesoft.logic.parser.exceptions.ParseException;
+import peoplesoft.model.job.JobQuery;
+import peoplesoft.model.job.Money;
+
+/**
+ * Parses input parameters and returns a {@code JobQuery}.
+ */
+public class JobFindCommandParser {
+    public static final String STATUS_PAID = "paid";
+    public static final String STATUS_UNPAID = "unpaid";
+    /** Separates the bounds of a range, e.g. {@code 10-20}. Either bound may be left out. */
+    public static final String RANGE_SEPARATOR = "-";
+
+    /**
+     * A parser of one bound of a range.
+     */
+    @FunctionalInterface
+    private interface BoundParser<T> {
+        T parse(String bound) throws ParseException;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code JobFindCommand}
+     * and returns a {@code JobQuery} object for {@code JobFindCommand}.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public JobQuery parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PAY, PREFIX_RATE, PREFIX_DURATION);
+
+        Optional<Boolean> hasPaid;
+        switch (argMultimap.getPreamble().trim().toLowerCase()) {
+        case "":
+            hasPaid = Optional.empty();
+            break;
+        case STATUS_PAID:
+            hasPaid = Optional.of(true);
+            break;
+        case STATUS_UNPAID:
+            hasPaid = Optional.of(false);
+            break;
+        default:
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, JobFindCommand.MESSAGE_USAGE));
+        }
+
+        Range<Money> pay = parseRange(argMultimap.getValue(PREFIX_PAY), JobFindCommandParser::parseMoney);
+        Range<Money> rate = parseRange(argMultimap.getValue(PREFIX_RATE), JobFindCommandParser::parseMoney);
+        Range<Duration> duration = parseRange(argMultimap.getValue(PREFIX_DURATION), ParserUtil::parseDuration);
+        return new JobQuery(pay, rate, duration, hasPaid);
+    }
+
+    /**
+     * Parses a range of the form {@code MIN-MAX}, {@code MIN-}, {@code -MAX} or {@code VALUE}, or the range of
+     * all values if {@code range} is empty.
+     */
+    private static <T extends Comparable<? super T>> Range<T> parseRange(Optional<String> range,
+            BoundParser<T> boundParser) throws ParseException {
+        if (range.isEmpty()) {
+            return Range.all();
+        }
+
+        String trimmedRange = range.get().trim();
+        int separatorIndex = trimmedRange.indexOf(RANGE_SEPARATOR);
+        if (separatorIndex == -1) {
+            T value = boundParser.parse(trimmedRange);
+            return Range.of(value, value);
+        }
+
+        String lower = trimmedRange.substring(0, separatorIndex).trim();
+        String upper = trimmedRange.substring(separatorIndex + RANGE_SEPARATOR.length()).trim();
+        if (lower.isEmpty() && upper.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, JobFindCommand.MESSAGE_USAGE));
+        }
+        try {
+            return Range.of(lower.isEmpty() ? null : boundParser.parse(lower),
+                    upper.isEmpty() ? null : boundParser.parse(upper));
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(Range.MESSAGE_CONSTRAINTS, e);
+        }
+    }
+
+    private static Money parseMoney(String money) throws ParseException {
+        if (!Money.isValidMoneyString(money)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, JobFindCommand.MESSAGE_USAGE));
+        }
+        return new Money(new BigDecimal(money));
+    }
+}
@@ -19,7 +19,7 @@ public class JobMarkCommandParser {
     public ID parse(String args) throws ParseException {
         try {
             String strVal = ParserUtil.parseString(args); // throws ParseException?
-            return new ID(strVal); // throws IllegalArgumentException
+            return ID.of(strVal); // throws IllegalArgumentException
         } catch (ParseException pe) {
             throw new ParseException(
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, JobMarkCommand.MESSAGE_USAGE));
@@ -0,0 +1,33 @@
+package peoplesoft.logic.parser.job;
+
+import static peoplesoft.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Optional;
+
+import peoplesoft.commons.core.index.Index;
+import peoplesoft.logic.commands.job.JobPayrollCommand;
+import peoplesoft.logic.parser.ParserUtil;
+import peoplesoft.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses the optional {@code Index} of the person to show the payroll of.
+ */
+public class JobPayrollCommandParser {
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code JobPayrollCommand}
+     * and returns the {@code Index} of the person, or an empty {@code Optional} if none is given.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Optional<Index> parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(ParserUtil.parseIndex(args));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, JobPayrollCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
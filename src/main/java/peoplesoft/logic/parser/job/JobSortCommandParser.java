@@ -0,0 +1,27 @@
+package peoplesoft.logic.parser.job;
+
+import static peoplesoft.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import peoplesoft.logic.commands.job.JobSortCommand;
+import peoplesoft.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses a field to sort jobs by, and the order to sort them in.
+ */
+public class JobSortCommandParser {
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code JobSortCommand}
+     * and returns the field to sort by, or {@code JobSortCommand.UNSORTED}, followed by
+     * {@code JobSortCommand.DESCENDING} if it was specified.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public String[] parse(String args) throws ParseException {
+        String[] words = args.trim().toLowerCase().split("\\s+");
+        boolean isValidOrder = words.length == 1 || (words.length == 2 && words[1].equals(JobSortCommand.DESCENDING));
+        boolean isUnsorted = words.length == 1 && words[0].equals(JobSortCommand.UNSORTED);
+        if (!isValidOrder || !(JobSortCommand.FIELDS.containsKey(words[0]) || isUnsorted)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, JobSortCommand.MESSAGE_USAGE));
+        }
+        return words;
+    }
+}
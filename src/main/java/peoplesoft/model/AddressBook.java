@@ -10,16 +10,13 @@ import java.util.function.UnaryOperator;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.IntNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import javafx.collections.ObservableList;
@@ -27,10 +24,12 @@ import peoplesoft.commons.core.JobIdFactory;
 import peoplesoft.commons.core.PersonIdFactory;
 import peoplesoft.commons.util.JsonUtil;
 import peoplesoft.model.job.Job;
+import peoplesoft.model.job.JobIndex;
 import peoplesoft.model.job.JobList;
 import peoplesoft.model.job.UniqueJobList;
 import peoplesoft.model.job.exceptions.JobNotFoundException;
 import peoplesoft.model.person.Person;
+import peoplesoft.model.person.PersonColumns;
 import peoplesoft.model.person.UniquePersonList;
 import peoplesoft.model.person.exceptions.PersonNotFoundException;
 import peoplesoft.model.util.Employment;
@@ -47,6 +46,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private JobList jobs;
 
+    /** Incremented on every change to the persons or jobs, so that results computed from them can be reused. */
+    private long modificationCount = 0;
+
     /**
      * Creates an empty AddressBook.
      */
@@ -83,6 +85,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        modificationCount++;
     }
 
     /**
@@ -91,6 +94,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setJobs(List<Job> jobs) {
         this.jobs.setJobs(jobs);
+        modificationCount++;
     }
 
     /**
@@ -129,6 +133,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        modificationCount++;
     }
 
     /**
@@ -140,6 +145,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        modificationCount++;
     }
 
     /**
@@ -148,6 +154,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        modificationCount++;
     }
 
     //// job-level operations
@@ -176,6 +183,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addJob(Job job) {
         jobs.add(job);
+        modificationCount++;
     }
 
     /**
@@ -187,6 +195,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedJob);
 
         jobs.setJob(target, editedJob);
+        modificationCount++;
     }
 
     /**
@@ -195,10 +204,18 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeJob(Job key) {
         jobs.remove(key);
+        modificationCount++;
     }
 
     //// util methods
 
+    /**
+     * Returns a count that changes whenever the persons or jobs in this address book change.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public String toString() {
         return persons.asUnmodifiableObservableList().size() + " persons";
@@ -210,6 +227,20 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the searchable fields of the persons, kept up to date as they change.
+     */
+    public PersonColumns getPersonColumns() {
+        return persons.getColumns();
+    }
+
+    /**
+     * Returns the sorted indexes of the jobs, kept up to date as they change.
+     */
+    public JobIndex getJobIndex() {
+        return jobs.getJobIndex();
+    }
+
     @Override
     public ObservableList<Job> getJobList() {
         return jobs.asUnmodifiableObservableList();
@@ -264,55 +295,57 @@ public class AddressBook implements ReadOnlyAddressBook {
             this(null);
         }
 
-        private static JsonNode getNonNullNode(ObjectNode node, String key, DeserializationContext ctx)
-                throws JsonMappingException {
-            return JsonUtil.getNonNullNode(node, key, ctx, INVALID_VAL_FMTR);
-        }
-
-        private static <T> T getNonNullNodeWithType(ObjectNode node, String key, DeserializationContext ctx,
-                Class<T> cls) throws JsonMappingException {
-            return JsonUtil.getNonNullNodeWithType(node, key, ctx,
-                INVALID_VAL_FMTR, cls);
-        }
-
         @Override
         public AddressBook deserialize(JsonParser p, DeserializationContext ctx)
                 throws IOException, JsonProcessingException {
-            JsonNode node = p.readValueAsTree();
-            ObjectCodec codec = p.getCodec();
-
-            if (!(node instanceof ObjectNode)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
+            JsonUtil.requireCurrentToken(p, JsonToken.START_OBJECT, ctx, MISSING_OR_INVALID_INSTANCE);
+
+            UniquePersonList upl = null;
+            UniqueJobList ujl = null;
+            Employment emp = null;
+            Integer jobIdState = null;
+            Integer personIdState = null;
+
+            for (String key = p.nextFieldName(); key != null; key = p.nextFieldName()) {
+                p.nextToken();
+                switch (key) {
+                case "persons":
+                    upl = JsonUtil.readValue(p, ctx, UniquePersonList.class);
+                    break;
+                case "jobs":
+                    ujl = JsonUtil.readValue(p, ctx, UniqueJobList.class);
+                    break;
+                case "employment":
+                    emp = JsonUtil.readValue(p, ctx, Employment.class);
+                    break;
+                case "jobIdState":
+                    jobIdState = JsonUtil.getIntValue(p, ctx, INVALID_VAL_FMTR.apply(key));
+                    break;
+                case "personIdState":
+                    personIdState = JsonUtil.getIntValue(p, ctx, INVALID_VAL_FMTR.apply(key));
+                    break;
+                default:
+                    p.skipChildren();
+                }
             }
 
-            ObjectNode objNode = (ObjectNode) node;
-
-            UniquePersonList upl = getNonNullNode(objNode, "persons", ctx)
-                .traverse(codec)
-                .readValueAs(UniquePersonList.class);
-
-            UniqueJobList ujl = getNonNullNode(objNode, "jobs", ctx)
-                .traverse(codec)
-                .readValueAs(UniqueJobList.class);
-
-            if (objNode.has("employment")) {
-                Employment emp = objNode.get("employment") // not null, we're good
-                    .traverse(codec)
-                    .readValueAs(Employment.class);
+            JsonUtil.requireField(upl, "persons", ctx, INVALID_VAL_FMTR);
+            JsonUtil.requireField(ujl, "jobs", ctx, INVALID_VAL_FMTR);
 
+            if (emp != null) {
+                emp.resolveLegacyAssociations(upl.asUnmodifiableObservableList());
+                emp.dropDanglingAssociations(ujl::contains, upl::contains);
                 Employment.setInstance(emp);
             } else {
                 Employment.newInstance();
             }
 
-            if (objNode.has("jobIdState")) {
+            if (jobIdState != null) {
                 // note jobId cannot be negative
-                int jobId = Math.max(
-                    getNonNullNodeWithType(objNode, "jobIdState", ctx, IntNode.class).intValue(),
-                    0);
+                int jobId = Math.max(jobIdState, 0);
 
                 // just in case we get a jobId that already exists
-                while (upl.contains(new ID(jobId))) {
+                while (ujl.contains(new ID(jobId))) {
                     jobId++;
                 }
 
@@ -321,11 +354,9 @@ public class AddressBook implements ReadOnlyAddressBook {
                 JobIdFactory.setId(0);
             }
 
-            if (objNode.has("personIdState")) {
+            if (personIdState != null) {
                 // note personId cannot be negative
-                int personId = Math.max(
-                    getNonNullNodeWithType(objNode, "personIdState", ctx, IntNode.class).intValue(),
-                    0);
+                int personId = Math.max(personIdState, 0);
 
                 // just in case we get a personId that already exists
                 while (upl.contains(new ID(personId))) {
@@ -1,11 +1,13 @@
 package peoplesoft.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import peoplesoft.commons.core.GuiSettings;
 import peoplesoft.model.job.Job;
+import peoplesoft.model.job.PaySummary;
 import peoplesoft.model.job.exceptions.JobNotFoundException;
 import peoplesoft.model.person.Person;
 import peoplesoft.model.person.exceptions.PersonNotFoundException;
@@ -95,15 +97,24 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
-    /** Returns an unmodifiable view of the filtered person list */
+    /** Returns an unmodifiable view of the filtered person list, in the order it is sorted in */
     ObservableList<Person> getFilteredPersonList();
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * A {@code PersonFuzzyMatchPredicate} also orders the list from the nearest match to the furthest, until the
+     * filter is updated again and the order given to {@link #sortFilteredPersonList} is restored.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Sorts the filtered person list by the given {@code comparator}, or in the order the persons were added if it is
+     * null. The list stays sorted as persons and their pay change, in O(log N) time per change, while changing the
+     * filter sorts the whole list again.
+     */
+    void sortFilteredPersonList(Comparator<Person> comparator);
+
     /**
      * Returns true if a job with the same identity as {@code job} exists in the address book.
      */
@@ -140,7 +151,7 @@ public interface Model {
      */
     void setJob(Job target, Job editedJob);
 
-    /** Returns an unmodifiable view of the filtered job list */
+    /** Returns an unmodifiable view of the filtered job list, in the order it is sorted in */
     ObservableList<Job> getFilteredJobList();
 
     /**
@@ -148,4 +159,20 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredJobList(Predicate<Job> predicate);
+
+    /**
+     * Sorts the filtered job list by the given {@code comparator}, or in the order the jobs were added if it is null.
+     * The list stays sorted as jobs change, in the same time as {@link #sortFilteredPersonList}.
+     */
+    void sortFilteredJobList(Comparator<Job> comparator);
+
+    /**
+     * Returns the total pay of all jobs in the address book.
+     */
+    PaySummary getPaySummary();
+
+    /**
+     * Returns the total pay of the jobs in the address book that are assigned to {@code person}.
+     */
+    PaySummary getPaySummary(Person person);
 }
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static peoplesoft.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -13,21 +14,39 @@ import javafx.collections.transformation.FilteredList;
 import peoplesoft.commons.core.GuiSettings;
 import peoplesoft.commons.core.LogsCenter;
 import peoplesoft.model.job.Job;
+import peoplesoft.model.job.JobQuery;
+import peoplesoft.model.job.PaySummary;
 import peoplesoft.model.job.exceptions.JobNotFoundException;
 import peoplesoft.model.person.Person;
+import peoplesoft.model.person.PersonColumns;
+import peoplesoft.model.person.PersonContainsKeywordsPredicate;
+import peoplesoft.model.person.PersonFuzzyMatchPredicate;
 import peoplesoft.model.person.exceptions.PersonNotFoundException;
 import peoplesoft.model.util.ID;
+import peoplesoft.model.util.IndexedSortedList;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final int QUERY_CACHE_CAPACITY = 16;
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Job> filteredJobs;
+    // Each change to the filtered lists is placed in the sorted lists in O(log N) time
+    private final IndexedSortedList<Person> sortedPersons;
+    private final IndexedSortedList<Job> sortedJobs;
+    // The order chosen with sortFilteredPersonList, which a fuzzy search only replaces while its filter is shown
+    private Comparator<Person> personComparator;
+    private final Payroll payroll;
+    private final QueryCache<PersonContainsKeywordsPredicate, Predicate<Person>> personQueries =
+            new QueryCache<>(QUERY_CACHE_CAPACITY);
+    private final QueryCache<PersonFuzzyMatchPredicate, PersonFuzzyMatchPredicate.ColumnQuery> fuzzyPersonQueries =
+            new QueryCache<>(QUERY_CACHE_CAPACITY);
+    private final QueryCache<JobQuery, Predicate<Job>> jobQueries = new QueryCache<>(QUERY_CACHE_CAPACITY);
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -41,6 +60,22 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredJobs = new FilteredList<>(this.addressBook.getJobList());
+        sortedPersons = new IndexedSortedList<>(filteredPersons);
+        sortedJobs = new IndexedSortedList<>(filteredJobs);
+        payroll = new Payroll(this.addressBook, new Payroll.Listener() {
+            // Persons may be sorted by their pay, which changes without the persons changing
+            @Override
+            public void onTotalChanged(ID personId) {
+                if (ModelManager.this.addressBook.hasPerson(personId)) {
+                    sortedPersons.refresh(ModelManager.this.addressBook.getPerson(personId));
+                }
+            }
+
+            @Override
+            public void onTotalsRecalculated() {
+                sortedPersons.refresh();
+            }
+        });
     }
 
     public ModelManager() {
@@ -139,13 +174,39 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate instanceof PersonFuzzyMatchPredicate) {
+            PersonFuzzyMatchPredicate query = (PersonFuzzyMatchPredicate) predicate;
+            PersonColumns columns = addressBook.getPersonColumns();
+            PersonFuzzyMatchPredicate.ColumnQuery cachedPredicate = fuzzyPersonQueries.get(query,
+                    addressBook.getModificationCount(), key -> key.using(columns));
+            // Filtering first leaves only the matches to be sorted by distance
+            filteredPersons.setPredicate(cachedPredicate);
+            sortedPersons.setComparator(cachedPredicate.byDistance());
+            return;
+        }
+
+        // Restoring the order first sorts the previous matches again, rather than the persons that replace them
+        sortedPersons.setComparator(personComparator);
+        if (predicate instanceof PersonContainsKeywordsPredicate) {
+            PersonContainsKeywordsPredicate query = ((PersonContainsKeywordsPredicate) predicate).normalize();
+            Predicate<Person> cachedPredicate = personQueries.get(query, addressBook.getModificationCount(), key ->
+                    key.using(addressBook.getPersonColumns()));
+            filteredPersons.setPredicate(cachedPredicate);
+        } else {
+            filteredPersons.setPredicate(predicate);
+        }
+    }
+
+    @Override
+    public void sortFilteredPersonList(Comparator<Person> comparator) {
+        personComparator = comparator;
+        sortedPersons.setComparator(comparator);
     }
 
     //=========== Job Operations =============================================================================
@@ -153,7 +214,7 @@ public class ModelManager implements Model {
     @Override
     public boolean hasJob(Job job) {
         requireNonNull(job);
-        return hasPerson(job.getJobId());
+        return hasJob(job.getJobId());
     }
 
     @Override
@@ -193,19 +254,44 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Job> getFilteredJobList() {
-        return filteredJobs;
+        return sortedJobs;
     }
 
     @Override
     public void updateFilteredJobList(Predicate<Job> predicate) {
         requireNonNull(predicate);
-        filteredJobs.setPredicate(predicate);
+        if (predicate instanceof JobQuery) {
+            JobQuery query = (JobQuery) predicate;
+            Predicate<Job> cachedPredicate = jobQueries.get(query, addressBook.getModificationCount(), key ->
+                    key.using(addressBook.getJobIndex()));
+            filteredJobs.setPredicate(cachedPredicate);
+        } else {
+            filteredJobs.setPredicate(predicate);
+        }
+    }
+
+    @Override
+    public void sortFilteredJobList(Comparator<Job> comparator) {
+        sortedJobs.setComparator(comparator);
+    }
+
+    //=========== Payroll ====================================================================================
+
+    @Override
+    public PaySummary getPaySummary() {
+        return payroll.getTotal();
+    }
+
+    @Override
+    public PaySummary getPaySummary(Person person) {
+        requireNonNull(person);
+        return payroll.getTotal(person.getPersonId());
     }
 
     // good practice to include this when overriding equals()
     @Override
     public int hashCode() {
-        return Objects.hash(addressBook, userPrefs, filteredPersons, filteredJobs);
+        return Objects.hash(addressBook, userPrefs, sortedPersons, sortedJobs);
     }
 
     @Override
@@ -224,7 +310,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return addressBook.equals(other.addressBook)
                 && userPrefs.equals(other.userPrefs)
-                && filteredPersons.equals(other.filteredPersons)
-                && filteredJobs.equals(other.filteredJobs);
+                && sortedPersons.equals(other.sortedPersons)
+                && sortedJobs.equals(other.sortedJobs);
     }
 }
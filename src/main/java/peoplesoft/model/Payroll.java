@@ -0,0 +1,129 @@
+package peoplesoft.model;
+
+import static java.util.Objects.requireNonNull;
+import static peoplesoft.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.job.PaySummary;
+import peoplesoft.model.util.Employment;
+import peoplesoft.model.util.ID;
+
+/**
+ * Keeps the total pay of the jobs in an {@code AddressBook}, overall and for each person, up to date as jobs and
+ * their assignments change. Each change to a single job or assignment takes constant time to account for.
+ *
+ * A job counts towards the totals of a person only while it is both in the address book and assigned to them.
+ */
+class Payroll implements ListChangeListener<Job>, Employment.Listener {
+    /**
+     * Receives the changes to the totals of persons.
+     */
+    interface Listener {
+        /** Called after the total of the person with {@code personId} changes. */
+        void onTotalChanged(ID personId);
+
+        /** Called after the totals of all persons are calculated again. */
+        void onTotalsRecalculated();
+    }
+
+    private final AddressBook addressBook;
+    private final Listener listener;
+
+    private PaySummary total;
+    private final Map<ID, PaySummary> totalsByPersonId = new HashMap<>();
+
+    /**
+     * Creates a {@code Payroll} that follows the jobs of {@code addressBook} and the {@code Employment} instance,
+     * and tells {@code listener} when the totals of persons change.
+     * The caller must keep a reference to it for as long as it should be kept up to date.
+     */
+    Payroll(AddressBook addressBook, Listener listener) {
+        requireAllNonNull(addressBook, listener);
+        this.addressBook = addressBook;
+        this.listener = listener;
+        addressBook.getJobList().addListener(this);
+        Employment.addListener(this);
+        recalculate();
+    }
+
+    /**
+     * Returns the total pay of all jobs.
+     */
+    PaySummary getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the total pay of the jobs assigned to the person with {@code personId}.
+     */
+    PaySummary getTotal(ID personId) {
+        requireNonNull(personId);
+        return totalsByPersonId.getOrDefault(personId, PaySummary.EMPTY);
+    }
+
+    @Override
+    public void onChanged(Change<? extends Job> change) {
+        while (change.next()) {
+            // Permutations do not change which jobs are in the list
+            for (Job removed : change.getRemoved()) {
+                total = total.minus(removed);
+                removeFromPerson(Employment.getInstance().getAllJobs().get(removed.getJobId()), removed);
+            }
+            for (Job added : change.getAddedSubList()) {
+                total = total.plus(added);
+                addToPerson(Employment.getInstance().getAllJobs().get(added.getJobId()), added);
+            }
+        }
+    }
+
+    @Override
+    public void onAssociationChanged(ID jobId, ID oldPersonId, ID newPersonId) {
+        if (!addressBook.hasJob(jobId)) {
+            return;
+        }
+        Job job = addressBook.getJob(jobId);
+        removeFromPerson(oldPersonId, job);
+        addToPerson(newPersonId, job);
+    }
+
+    @Override
+    public void onInstanceReplaced() {
+        recalculate();
+    }
+
+    private void addToPerson(ID personId, Job job) {
+        if (personId != null) {
+            totalsByPersonId.put(personId, getTotal(personId).plus(job));
+            listener.onTotalChanged(personId);
+        }
+    }
+
+    private void removeFromPerson(ID personId, Job job) {
+        if (personId != null) {
+            PaySummary remaining = totalsByPersonId.get(personId).minus(job);
+            if (remaining.getJobCount() == 0) {
+                totalsByPersonId.remove(personId);
+            } else {
+                totalsByPersonId.put(personId, remaining);
+            }
+            listener.onTotalChanged(personId);
+        }
+    }
+
+    private void recalculate() {
+        total = PaySummary.EMPTY;
+        totalsByPersonId.clear();
+        for (Job job : addressBook.getJobList()) {
+            total = total.plus(job);
+            ID personId = Employment.getInstance().getAllJobs().get(job.getJobId());
+            if (personId != null) {
+                totalsByPersonId.put(personId, getTotal(personId).plus(job));
+            }
+        }
+        listener.onTotalsRecalculated();
+    }
+}
@@ -0,0 +1,55 @@
+package peoplesoft.model;
+
+import static peoplesoft.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Keeps the results of the most recently used queries, each together with the version of the data it was computed
+ * from, so that a query repeated against unchanged data does not have to be computed again.
+ *
+ * @param <K> type of the queries, which must have value-based {@code equals} and {@code hashCode}
+ * @param <V> type of the results
+ */
+class QueryCache<K, V> {
+    private final Map<K, CachedResult<V>> results;
+
+    /**
+     * Creates a {@code QueryCache} that keeps the results of at most {@code capacity} queries.
+     */
+    QueryCache(int capacity) {
+        assert capacity > 0;
+        results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CachedResult<V>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the result of {@code query} against the data at {@code version}, which is computed with
+     * {@code compute} unless it was computed before at the same version.
+     */
+    V get(K query, long version, Function<? super K, ? extends V> compute) {
+        requireAllNonNull(query, compute);
+        CachedResult<V> cached = results.get(query);
+        if (cached == null || cached.version != version) {
+            cached = new CachedResult<>(version, compute.apply(query));
+            results.put(query, cached);
+        }
+        return cached.result;
+    }
+
+    private static class CachedResult<V> {
+        private final long version;
+        private final V result;
+
+        CachedResult(long version, V result) {
+            this.version = version;
+            this.result = result;
+        }
+    }
+}
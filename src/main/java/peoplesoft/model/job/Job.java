@@ -10,17 +10,13 @@ import java.util.function.UnaryOperator;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.BooleanNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.databind.node.TextNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import peoplesoft.commons.util.JsonUtil;
@@ -40,6 +36,10 @@ public class Job {
 
     private final boolean hasPaid;
 
+    // Derived from the fields above, so they are computed on first use
+    private Money pay;
+    private int hash;
+
     /**
      * Constructor for an immutable job.
      * All fields must not be null.
@@ -80,7 +80,12 @@ public class Job {
      * @return Pay.
      */
     public Money calculatePay() {
-        return rate.calculateAmount(duration);
+        Money result = pay;
+        if (result == null) {
+            result = rate.calculateAmount(duration);
+            pay = result;
+        }
+        return result;
     }
 
     /**
@@ -135,7 +140,12 @@ public class Job {
 
     @Override
     public int hashCode() {
-        return Objects.hash(jobId, desc, rate, duration, hasPaid);
+        int result = hash;
+        if (result == 0) {
+            result = Objects.hash(jobId, desc, rate, duration, hasPaid);
+            hash = result;
+        }
+        return result;
     }
 
     @Override
@@ -194,46 +204,46 @@ public class Job {
             this(null);
         }
 
-        private static JsonNode getNonNullNode(ObjectNode node, String key, DeserializationContext ctx)
-                throws JsonMappingException {
-            return JsonUtil.getNonNullNode(node, key, ctx, INVALID_VAL_FMTR);
-        }
-
-        private static <T> T getNonNullNodeWithType(ObjectNode node, String key, DeserializationContext ctx,
-                Class<T> cls) throws JsonMappingException {
-            return JsonUtil.getNonNullNodeWithType(node, key, ctx,
-                INVALID_VAL_FMTR, cls);
-        }
-
         @Override
         public Job deserialize(JsonParser p, DeserializationContext ctx)
                 throws IOException, JsonProcessingException {
-            JsonNode node = p.readValueAsTree();
-            ObjectCodec codec = p.getCodec();
-
-            if (!(node instanceof ObjectNode)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
+            JsonUtil.requireCurrentToken(p, JsonToken.START_OBJECT, ctx, MISSING_OR_INVALID_INSTANCE);
+
+            ID jobId = null;
+            String desc = null;
+            Rate rate = null;
+            Duration duration = null;
+            Boolean hasPaid = null;
+
+            for (String key = p.nextFieldName(); key != null; key = p.nextFieldName()) {
+                p.nextToken();
+                switch (key) {
+                case "jobId":
+                    jobId = JsonUtil.readValue(p, ctx, ID.class);
+                    break;
+                case "desc":
+                    desc = JsonUtil.getTextValue(p, ctx, INVALID_VAL_FMTR.apply(key));
+                    break;
+                case "rate":
+                    rate = JsonUtil.readValue(p, ctx, Rate.class);
+                    break;
+                case "duration":
+                    duration = JsonUtil.readValue(p, ctx, Duration.class);
+                    break;
+                case "hasPaid":
+                    hasPaid = JsonUtil.getBooleanValue(p, ctx, INVALID_VAL_FMTR.apply(key));
+                    break;
+                default:
+                    p.skipChildren();
+                }
             }
 
-            ObjectNode job = (ObjectNode) node;
-
-            ID jobId = getNonNullNode(job, "jobId", ctx)
-                .traverse(codec)
-                .readValueAs(ID.class);
-
-            String desc = getNonNullNodeWithType(job, "desc", ctx, TextNode.class).textValue();
-
-            Rate rate = getNonNullNode(job, "rate", ctx)
-                .traverse(codec)
-                .readValueAs(Rate.class);
-
-            Duration duration = getNonNullNode(job, "duration", ctx)
-                .traverse(codec)
-                .readValueAs(Duration.class);
-
-            Boolean hasPaid = getNonNullNodeWithType(job, "hasPaid", ctx, BooleanNode.class).booleanValue();
-
-            return new Job(jobId, desc, rate, duration, hasPaid);
+            return new Job(
+                JsonUtil.requireField(jobId, "jobId", ctx, INVALID_VAL_FMTR),
+                JsonUtil.requireField(desc, "desc", ctx, INVALID_VAL_FMTR),
+                JsonUtil.requireField(rate, "rate", ctx, INVALID_VAL_FMTR),
+                JsonUtil.requireField(duration, "duration", ctx, INVALID_VAL_FMTR),
+                JsonUtil.requireField(hasPaid, "hasPaid", ctx, INVALID_VAL_FMTR));
         }
 
         @Override
@@ -0,0 +1,176 @@
+package peoplesoft.model.job;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import peoplesoft.commons.util.Range;
+import peoplesoft.model.util.ID;
+
+/**
+ * Sorted indexes of the jobs in a {@code UniqueJobList} by pay, rate amount and duration, each split by whether
+ * the job has been paid, so that a {@code JobQuery} only looks at the jobs in one of its ranges.
+ * Finding the jobs in a range takes O(log N + k) time, where k is the number of jobs in it.
+ */
+public class JobIndex {
+    private final Map<ID, Job> jobsById = new HashMap<>();
+    private final Partition paidJobs = new Partition();
+    private final Partition unpaidJobs = new Partition();
+
+    /** Incremented on every change, so that query results can tell when they are out of date. */
+    private long modCount = 0;
+
+    /**
+     * Adds {@code job}, or replaces the job with the same id.
+     */
+    void put(Job job) {
+        requireNonNull(job);
+        modCount++;
+        Job oldJob = jobsById.put(job.getJobId(), job);
+        if (oldJob != null) {
+            getPartition(oldJob).remove(oldJob);
+        }
+        getPartition(job).add(job);
+    }
+
+    /**
+     * Removes the job with the same id as {@code job}, if any.
+     */
+    void remove(Job job) {
+        requireNonNull(job);
+        Job oldJob = jobsById.remove(job.getJobId());
+        if (oldJob != null) {
+            modCount++;
+            getPartition(oldJob).remove(oldJob);
+        }
+    }
+
+    /**
+     * Removes all jobs.
+     */
+    void clear() {
+        modCount++;
+        jobsById.clear();
+        paidJobs.clear();
+        unpaidJobs.clear();
+    }
+
+    /**
+     * Returns true if this index has {@code job} itself, rather than only an equal job.
+     */
+    public boolean contains(Job job) {
+        requireNonNull(job);
+        return jobsById.get(job.getJobId()) == job;
+    }
+
+    public long getModCount() {
+        return modCount;
+    }
+
+    /**
+     * Returns the jobs that match {@code query}, in no particular order.
+     */
+    public List<Job> find(JobQuery query) {
+        requireNonNull(query);
+        List<Job> matches = new ArrayList<>();
+        if (query.getHasPaid().orElse(true)) {
+            paidJobs.find(query, matches);
+        }
+        if (!query.getHasPaid().orElse(false)) {
+            unpaidJobs.find(query, matches);
+        }
+        return matches;
+    }
+
+    private Partition getPartition(Job job) {
+        return job.hasPaid() ? paidJobs : unpaidJobs;
+    }
+
+    /**
+     * Indexes of the jobs with the same paid status.
+     */
+    private static class Partition {
+        private final SortedIndex<Money> byPay = new SortedIndex<>(Job::calculatePay);
+        private final SortedIndex<Money> byRate = new SortedIndex<>(job -> job.getRate().getAmount());
+        private final SortedIndex<Duration> byDuration = new SortedIndex<>(Job::getDuration);
+
+        void add(Job job) {
+            byPay.add(job);
+            byRate.add(job);
+            byDuration.add(job);
+        }
+
+        void remove(Job job) {
+            byPay.remove(job);
+            byRate.remove(job);
+            byDuration.remove(job);
+        }
+
+        void clear() {
+            byPay.clear();
+            byRate.clear();
+            byDuration.clear();
+        }
+
+        /**
+         * Adds the jobs that match {@code query} to {@code matches}. The jobs are taken from the index of the first
+         * attribute that {@code query} restricts, and checked against the rest of the query.
+         */
+        void find(JobQuery query, List<Job> matches) {
+            if (!query.getPay().isAll()) {
+                byPay.find(query.getPay(), query, matches);
+            } else if (!query.getRate().isAll()) {
+                byRate.find(query.getRate(), query, matches);
+            } else {
+                byDuration.find(query.getDuration(), query, matches);
+            }
+        }
+    }
+
+    /**
+     * Jobs sorted by a key derived from them. Jobs with equal keys are kept in the order they were added.
+     */
+    private static class SortedIndex<K extends Comparable<? super K>> {
+        private final NavigableMap<K, Map<ID, Job>> jobsByKey = new TreeMap<>();
+        private final Function<Job, K> getKey;
+
+        SortedIndex(Function<Job, K> getKey) {
+            this.getKey = getKey;
+        }
+
+        void add(Job job) {
+            jobsByKey.computeIfAbsent(getKey.apply(job), key -> new LinkedHashMap<>()).put(job.getJobId(), job);
+        }
+
+        void remove(Job job) {
+            K key = getKey.apply(job);
+            Map<ID, Job> jobs = jobsByKey.get(key);
+            jobs.remove(job.getJobId());
+            if (jobs.isEmpty()) {
+                jobsByKey.remove(key);
+            }
+        }
+
+        void clear() {
+            jobsByKey.clear();
+        }
+
+        void find(Range<K> range, JobQuery query, List<Job> matches) {
+            for (Map<ID, Job> jobs : range.subMap(jobsByKey).values()) {
+                for (Job job : jobs.values()) {
+                    if (query.test(job)) {
+                        matches.add(job);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -25,6 +25,8 @@ public interface JobList extends Iterable<Job> {
 
     ObservableList<Job> asUnmodifiableObservableList();
 
+    JobIndex getJobIndex();
+
     boolean jobsAreUnique(List<Job> jobs);
 
 }
@@ -0,0 +1,117 @@
+package peoplesoft.model.job;
+
+import static java.util.Objects.requireNonNull;
+import static peoplesoft.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import peoplesoft.commons.util.Range;
+
+/**
+ * Tests that a {@code Job}'s pay, rate amount and duration are in given ranges, and that it has a given paid
+ * status. Immutable.
+ */
+public class JobQuery implements Predicate<Job> {
+    private final Range<Money> pay;
+    private final Range<Money> rate;
+    private final Range<Duration> duration;
+    private final Optional<Boolean> hasPaid;
+
+    /**
+     * Creates a {@code JobQuery}.
+     *
+     * @param pay Range of the pay of the job.
+     * @param rate Range of the amount of the rate of the job.
+     * @param duration Range of the duration of the job.
+     * @param hasPaid Whether the job must have been paid, or empty if either is allowed.
+     */
+    public JobQuery(Range<Money> pay, Range<Money> rate, Range<Duration> duration, Optional<Boolean> hasPaid) {
+        requireAllNonNull(pay, rate, duration, hasPaid);
+        this.pay = pay;
+        this.rate = rate;
+        this.duration = duration;
+        this.hasPaid = hasPaid;
+    }
+
+    public Range<Money> getPay() {
+        return pay;
+    }
+
+    public Range<Money> getRate() {
+        return rate;
+    }
+
+    public Range<Duration> getDuration() {
+        return duration;
+    }
+
+    public Optional<Boolean> getHasPaid() {
+        return hasPaid;
+    }
+
+    @Override
+    public boolean test(Job job) {
+        return hasPaid.map(paid -> paid == job.hasPaid()).orElse(true)
+                && pay.contains(job.calculatePay())
+                && rate.contains(job.getRate().getAmount())
+                && duration.contains(job.getDuration());
+    }
+
+    /**
+     * Returns a predicate equivalent to this one, which finds the jobs that match in {@code index} the first time it
+     * is tested. Jobs that are not in {@code index}, or are tested after it changes, are matched one at a time.
+     */
+    public Predicate<Job> using(JobIndex index) {
+        requireNonNull(index);
+        return new Predicate<>() {
+            private final long foundModCount = index.getModCount();
+            private Set<Job> matchingJobs;
+
+            @Override
+            public boolean test(Job job) {
+                if (index.getModCount() != foundModCount) {
+                    return JobQuery.this.test(job);
+                }
+                if (matchingJobs == null) {
+                    matchingJobs = Collections.newSetFromMap(new IdentityHashMap<>());
+                    matchingJobs.addAll(index.find(JobQuery.this));
+                }
+                return matchingJobs.contains(job) || !index.contains(job) && JobQuery.this.test(job);
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof JobQuery)) {
+            return false;
+        }
+
+        JobQuery otherQuery = (JobQuery) other;
+        return pay.equals(otherQuery.pay)
+                && rate.equals(otherQuery.rate)
+                && duration.equals(otherQuery.duration)
+                && hasPaid.equals(otherQuery.hasPaid);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pay, rate, duration, hasPaid);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("pay %s, rate %s, duration %s, %s", pay, rate, duration,
+                hasPaid.map(paid -> paid ? "paid" : "unpaid").orElse("paid or unpaid"));
+    }
+}
@@ -13,27 +13,36 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.TextNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import peoplesoft.commons.util.JsonUtil;
 
 /**
  * Represents some value of money. Immutable.
+ *
+ * The value is kept as a {@code long} count of millionths, so that arithmetic on typical amounts does not allocate.
+ * Values that do not fit in a {@code long} fall back to a {@code BigDecimal}.
  */
 @JsonSerialize(using = Money.MoneySerializer.class)
 @JsonDeserialize(using = Money.MoneyDeserializer.class)
-public class Money {
+public class Money implements Comparable<Money> {
 
     private static final int VALUE_SCALE = 6;
+    private static final long SCALE_FACTOR = 1_000_000L;
     private static final NumberFormat CURRENCY_FORMAT = NumberFormat.getCurrencyInstance(Locale.US);
 
-    public final BigDecimal value;
+    static {
+        CURRENCY_FORMAT.setRoundingMode(RoundingMode.HALF_UP);
+    }
+
+    /** The value in millionths. Only meaningful if {@code bigValue} is null. */
+    private final long scaledValue;
+    /** The value, if it does not fit in {@code scaledValue}. Otherwise null. */
+    private final BigDecimal bigValue;
 
     /**
      * Constructs a {@code Money}.
@@ -51,8 +60,19 @@ public class Money {
      */
     public Money(BigDecimal value) {
         requireNonNull(value);
-        CURRENCY_FORMAT.setRoundingMode(RoundingMode.HALF_UP);
-        this.value = value.setScale(VALUE_SCALE, RoundingMode.HALF_UP);
+        BigDecimal scaled = value.setScale(VALUE_SCALE, RoundingMode.HALF_UP);
+        if (scaled.unscaledValue().bitLength() < Long.SIZE) {
+            this.scaledValue = scaled.unscaledValue().longValue();
+            this.bigValue = null;
+        } else {
+            this.scaledValue = 0;
+            this.bigValue = scaled;
+        }
+    }
+
+    private Money(long scaledValue) {
+        this.scaledValue = scaledValue;
+        this.bigValue = null;
     }
 
     /**
@@ -70,7 +90,16 @@ public class Money {
     }
 
     public BigDecimal getValue() {
-        return value;
+        return bigValue == null ? BigDecimal.valueOf(scaledValue, VALUE_SCALE) : bigValue;
+    }
+
+    /**
+     * Returns -1, 0, or 1 as the value is negative, zero, or positive.
+     *
+     * @return Sign of the value.
+     */
+    public int signum() {
+        return bigValue == null ? Long.signum(scaledValue) : bigValue.signum();
     }
 
     /**
@@ -80,7 +109,14 @@ public class Money {
      * @return Sum.
      */
     public Money add(Money augend) {
-        return new Money(value.add(augend.value).setScale(VALUE_SCALE, RoundingMode.HALF_UP));
+        if (bigValue == null && augend.bigValue == null) {
+            long sum = scaledValue + augend.scaledValue;
+            // Overflow iff both operands have the same sign, which differs from the sign of the sum
+            if (((scaledValue ^ sum) & (augend.scaledValue ^ sum)) >= 0) {
+                return new Money(sum);
+            }
+        }
+        return new Money(getValue().add(augend.getValue()));
     }
 
     /**
@@ -90,7 +126,7 @@ public class Money {
      * @return Sum.
      */
     public Money add(BigDecimal augend) {
-        return new Money(value.add(augend).setScale(VALUE_SCALE, RoundingMode.HALF_UP));
+        return new Money(getValue().add(augend));
     }
 
     /**
@@ -100,7 +136,32 @@ public class Money {
      * @return Difference.
      */
     public Money subtract(Money augend) {
-        return new Money(value.add(augend.value.negate()).setScale(VALUE_SCALE, RoundingMode.HALF_UP));
+        if (bigValue == null && augend.bigValue == null) {
+            long difference = scaledValue - augend.scaledValue;
+            // Overflow iff the operands have different signs, and the first differs from the sign of the difference
+            if (((scaledValue ^ augend.scaledValue) & (scaledValue ^ difference)) >= 0) {
+                return new Money(difference);
+            }
+        }
+        return new Money(getValue().subtract(augend.getValue()));
+    }
+
+    /**
+     * Returns a {@code Money} with the value equal the product of both values.
+     *
+     * @param multiplicand Value to multiply.
+     * @return Product.
+     */
+    public Money multiply(long multiplicand) {
+        if (bigValue == null) {
+            long high = Math.multiplyHigh(scaledValue, multiplicand);
+            long product = scaledValue * multiplicand;
+            // The product fits in a long iff its high half is just the sign extension of its low half
+            if (high == product >> (Long.SIZE - 1)) {
+                return new Money(product);
+            }
+        }
+        return new Money(getValue().multiply(BigDecimal.valueOf(multiplicand)));
     }
 
     /**
@@ -110,7 +171,7 @@ public class Money {
      * @return Product.
      */
     public Money multiply(BigDecimal multiplicand) {
-        return new Money(value.multiply(multiplicand).setScale(VALUE_SCALE, RoundingMode.HALF_UP));
+        return new Money(getValue().multiply(multiplicand));
     }
 
     /**
@@ -120,7 +181,14 @@ public class Money {
      * @return Product.
      */
     public Money multiply(Money multiplicand) {
-        return new Money(value.multiply(multiplicand.value).setScale(VALUE_SCALE, RoundingMode.HALF_UP));
+        if (bigValue == null && multiplicand.bigValue == null) {
+            long high = Math.multiplyHigh(scaledValue, multiplicand.scaledValue);
+            long product = scaledValue * multiplicand.scaledValue;
+            if (high == product >> (Long.SIZE - 1)) {
+                return new Money(divideHalfUp(product, SCALE_FACTOR));
+            }
+        }
+        return new Money(getValue().multiply(multiplicand.getValue()));
     }
 
     /**
@@ -130,7 +198,7 @@ public class Money {
      * @return Quotient.
      */
     public Money divide(BigDecimal divisor) {
-        return new Money(value.divide(divisor, VALUE_SCALE, RoundingMode.HALF_UP));
+        return new Money(getValue().divide(divisor, VALUE_SCALE, RoundingMode.HALF_UP));
     }
 
     /**
@@ -140,7 +208,17 @@ public class Money {
      * @return Quotient.
      */
     public Money divide(Money divisor) {
-        return new Money(value.divide(divisor.value, VALUE_SCALE, RoundingMode.HALF_UP));
+        return new Money(getValue().divide(divisor.getValue(), VALUE_SCALE, RoundingMode.HALF_UP));
+    }
+
+    /**
+     * Returns {@code dividend / divisor} rounded half away from zero, like {@code RoundingMode.HALF_UP}.
+     * {@code divisor} must be positive.
+     */
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = Math.abs(dividend % divisor);
+        return remainder >= divisor - remainder ? quotient + Long.signum(dividend) : quotient;
     }
 
     /**
@@ -149,20 +227,37 @@ public class Money {
      * @return Value as a string.
      */
     public String printFullValue() {
-        return value.toString();
+        return getValue().toString();
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        requireNonNull(other);
+        return bigValue == null && other.bigValue == null
+                ? Long.compare(scaledValue, other.scaledValue)
+                : getValue().compareTo(other.getValue());
     }
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof Money // instanceof handles nulls
-                && value.equals(((Money) other).value)); // state check
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+
+        if (!(other instanceof Money)) { // instanceof handles nulls
+            return false;
+        }
+
+        // Values that fit in a long are never kept as a BigDecimal, so the representations are comparable
+        Money otherMoney = (Money) other;
+        return bigValue == null
+                ? otherMoney.bigValue == null && scaledValue == otherMoney.scaledValue
+                : bigValue.equals(otherMoney.bigValue);
     }
 
     @Override
     public int hashCode() {
-        // Might change if scale not matching is an issue
-        return value.hashCode();
+        return bigValue == null ? Long.hashCode(scaledValue) : bigValue.hashCode();
     }
 
     /**
@@ -172,8 +267,7 @@ public class Money {
      */
     @Override
     public String toString() {
-        // Might change if scale not matching is an issue
-        return CURRENCY_FORMAT.format(value);
+        return CURRENCY_FORMAT.format(getValue());
     }
 
     protected static class MoneySerializer extends StdSerializer<Money> {
@@ -187,7 +281,7 @@ public class Money {
 
         @Override
         public void serialize(Money val, JsonGenerator gen, SerializerProvider provider) throws IOException {
-            gen.writeString(val.value.toString()); // to preserve precision
+            gen.writeString(val.printFullValue()); // to preserve precision
         }
     }
 
@@ -205,13 +299,7 @@ public class Money {
         @Override
         public Money deserialize(JsonParser p, DeserializationContext ctx)
                 throws IOException, JsonProcessingException {
-            JsonNode node = p.readValueAsTree();
-
-            if (!(node instanceof TextNode)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
-            }
-
-            String valString = ((TextNode) node).textValue();
+            String valString = JsonUtil.getTextValue(p, ctx, MISSING_OR_INVALID_INSTANCE);
 
             if (!Money.isValidMoneyString(valString)) {
                 throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
@@ -0,0 +1,96 @@
+package peoplesoft.model.job;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * Represents the total pay of a group of {@code Jobs}, split by whether it has been paid. Immutable.
+ */
+public class PaySummary {
+    public static final PaySummary EMPTY = new PaySummary(0, new Money(0), new Money(0));
+
+    private final int jobCount;
+    private final Money paid;
+    private final Money unpaid;
+
+    private PaySummary(int jobCount, Money paid, Money unpaid) {
+        this.jobCount = jobCount;
+        this.paid = paid;
+        this.unpaid = unpaid;
+    }
+
+    /**
+     * Returns a {@code PaySummary} that also includes {@code job}.
+     *
+     * @param job Job to include.
+     * @return Summary with the job.
+     */
+    public PaySummary plus(Job job) {
+        requireNonNull(job);
+        return job.hasPaid()
+                ? new PaySummary(jobCount + 1, paid.add(job.calculatePay()), unpaid)
+                : new PaySummary(jobCount + 1, paid, unpaid.add(job.calculatePay()));
+    }
+
+    /**
+     * Returns a {@code PaySummary} that no longer includes {@code job}, which must have been included.
+     *
+     * @param job Job to exclude.
+     * @return Summary without the job.
+     */
+    public PaySummary minus(Job job) {
+        requireNonNull(job);
+        assert jobCount > 0;
+        return job.hasPaid()
+                ? new PaySummary(jobCount - 1, paid.subtract(job.calculatePay()), unpaid)
+                : new PaySummary(jobCount - 1, paid, unpaid.subtract(job.calculatePay()));
+    }
+
+    public int getJobCount() {
+        return jobCount;
+    }
+
+    /**
+     * Returns the total pay of all the jobs, whether or not it has been paid.
+     *
+     * @return Total pay.
+     */
+    public Money getEarned() {
+        return paid.add(unpaid);
+    }
+
+    public Money getPaid() {
+        return paid;
+    }
+
+    public Money getUnpaid() {
+        return unpaid;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PaySummary)) {
+            return false;
+        }
+
+        PaySummary otherSummary = (PaySummary) other;
+        return jobCount == otherSummary.jobCount
+                && paid.equals(otherSummary.paid)
+                && unpaid.equals(otherSummary.unpaid);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(jobCount, paid, unpaid);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s earned, %s paid, %s unpaid (%d jobs)", getEarned(), paid, unpaid, jobCount);
+    }
+}
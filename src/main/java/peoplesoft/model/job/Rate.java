@@ -5,7 +5,6 @@ import static peoplesoft.model.job.util.DurationUtil.requirePositive;
 import static peoplesoft.model.job.util.MoneyUtil.requireNonNegative;
 
 import java.io.IOException;
-import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.format.DateTimeParseException;
 import java.util.Objects;
@@ -14,18 +13,16 @@ import java.util.function.UnaryOperator;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.databind.node.TextNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
+import peoplesoft.commons.util.Interner;
 import peoplesoft.commons.util.JsonUtil;
 
 /**
@@ -36,9 +33,14 @@ import peoplesoft.commons.util.JsonUtil;
 public class Rate {
     public static final String MESSAGE_CONSTRAINTS = "Value for rate should be a decimal number";
 
+    private static final Interner<Rate> POOL = new Interner<>();
+
     public final Money amount;
     public final Duration duration;
 
+    // Computed on first use
+    private int hash;
+
     /**
      * Constructs a {@code Rate} instance.
      *
@@ -53,6 +55,17 @@ public class Rate {
         this.duration = duration;
     }
 
+    /**
+     * Returns a {@code Rate} of {@code amount} per {@code duration}, which is shared with other users of the same
+     * rate.
+     *
+     * @param amount Money per unit time
+     * @param duration Unit time duration
+     */
+    public static Rate of(Money amount, Duration duration) {
+        return POOL.intern(new Rate(amount, duration));
+    }
+
     public Money getAmount() {
         return amount;
     }
@@ -71,8 +84,7 @@ public class Rate {
      *         duration
      */
     public Money calculateAmount(Duration totalDuration) {
-        return amount.multiply(BigDecimal.valueOf(totalDuration.dividedBy(duration)));
-
+        return amount.multiply(totalDuration.dividedBy(duration));
     }
 
     @Override
@@ -93,7 +105,12 @@ public class Rate {
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount, duration);
+        int result = hash;
+        if (result == 0) {
+            result = Objects.hash(amount, duration);
+            hash = result;
+        }
+        return result;
     }
 
     /**
@@ -140,35 +157,30 @@ public class Rate {
             this(null);
         }
 
-        private static JsonNode getNonNullNode(ObjectNode node, String key, DeserializationContext ctx)
-                throws JsonMappingException {
-            return JsonUtil.getNonNullNode(node, key, ctx, INVALID_VAL_FMTR);
-        }
-
-        private static <T> T getNonNullNodeWithType(ObjectNode node, String key, DeserializationContext ctx,
-                Class<T> cls) throws JsonMappingException {
-            return JsonUtil.getNonNullNodeWithType(node, key, ctx,
-                INVALID_VAL_FMTR, cls);
-        }
-
         @Override
         public Rate deserialize(JsonParser p, DeserializationContext ctx)
                 throws IOException, JsonProcessingException {
-            JsonNode node = p.readValueAsTree();
-            ObjectCodec codec = p.getCodec();
-
-            if (!(node instanceof ObjectNode)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
+            JsonUtil.requireCurrentToken(p, JsonToken.START_OBJECT, ctx, MISSING_OR_INVALID_INSTANCE);
+
+            Money amount = null;
+            String durationString = null;
+
+            for (String key = p.nextFieldName(); key != null; key = p.nextFieldName()) {
+                p.nextToken();
+                switch (key) {
+                case "amount":
+                    amount = JsonUtil.readValue(p, ctx, Money.class);
+                    break;
+                case "duration":
+                    durationString = JsonUtil.getTextValue(p, ctx, INVALID_VAL_FMTR.apply(key));
+                    break;
+                default:
+                    p.skipChildren();
+                }
             }
 
-            ObjectNode rate = (ObjectNode) node;
-
-            Money amount = getNonNullNode(rate, "amount", ctx)
-                .traverse(codec)
-                .readValueAs(Money.class);
-
-            String durationString = getNonNullNodeWithType(rate, "duration", ctx, TextNode.class)
-                .textValue();
+            JsonUtil.requireField(amount, "amount", ctx, INVALID_VAL_FMTR);
+            JsonUtil.requireField(durationString, "duration", ctx, INVALID_VAL_FMTR);
 
             Duration duration;
             try {
@@ -178,7 +190,7 @@ public class Rate {
                     ctx, INVALID_VAL_FMTR.apply("duration"), e);
             }
 
-            return new Rate(amount, duration);
+            return Rate.of(amount, duration);
         }
 
         @Override
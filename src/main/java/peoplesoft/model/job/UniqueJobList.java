@@ -4,26 +4,28 @@ import static java.util.Objects.requireNonNull;
 import static peoplesoft.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.ObjectCodec;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import peoplesoft.commons.util.CollectionUtil;
 import peoplesoft.commons.util.JsonUtil;
 import peoplesoft.model.job.exceptions.DuplicateJobException;
 import peoplesoft.model.job.exceptions.JobNotFoundException;
@@ -31,6 +33,8 @@ import peoplesoft.model.util.ID;
 
 /**
  * Implementation of {@code JobList}.
+ * Jobs are indexed by {@code ID}, so lookups and additions by id take constant time. Removals keep the order of
+ * the list, so they take time linear in the number of jobs after the removed one.
  */
 @JsonSerialize(using = UniqueJobList.UniqueJobListSerializer.class)
 @JsonDeserialize(using = UniqueJobList.UniqueJobListDeserializer.class)
@@ -40,10 +44,19 @@ public class UniqueJobList implements JobList {
     private final ObservableList<Job> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /**
+     * Maps {@code ID} to the position of the {@code Job} with that id in {@code internalList}.
+     * Must be kept in sync with {@code internalList} by every mutating operation.
+     */
+    private final Map<ID, Integer> idToIndex = new HashMap<>();
+
+    /** Updated before {@code internalList}, so that it is up to date when listeners of the list are notified. */
+    private final JobIndex jobIndex = new JobIndex();
+
     @Override
     public boolean contains(ID jobId) {
         requireNonNull(jobId);
-        return internalList.stream().anyMatch(job -> job.getJobId().equals(jobId));
+        return idToIndex.containsKey(jobId);
     }
 
     /**
@@ -54,10 +67,11 @@ public class UniqueJobList implements JobList {
     @Override
     public Job get(ID jobId) throws JobNotFoundException {
         requireNonNull(jobId);
-        return internalList.stream()
-            .filter(j -> j != null && jobId.equals(j.getJobId()))
-            .findAny()
-            .orElseThrow(JobNotFoundException::new);
+        Integer index = idToIndex.get(jobId);
+        if (index == null) {
+            throw new JobNotFoundException();
+        }
+        return internalList.get(index);
     }
 
     @Override
@@ -66,24 +80,32 @@ public class UniqueJobList implements JobList {
         if (contains(toAdd.getJobId())) {
             throw new DuplicateJobException();
         }
+        idToIndex.put(toAdd.getJobId(), internalList.size());
+        jobIndex.put(toAdd);
         internalList.add(toAdd);
     }
 
     @Override
     public void remove(Job toRemove) {
         requireNonNull(toRemove);
-        if (!contains(toRemove.getJobId())) {
+        Integer index = idToIndex.remove(toRemove.getJobId());
+        if (index == null) {
             throw new JobNotFoundException();
         }
-        internalList.removeIf(job -> job.isSameJob(toRemove));
+        jobIndex.remove(toRemove);
+
+        internalList.remove((int) index);
+        for (int i = index; i < internalList.size(); i++) {
+            idToIndex.put(internalList.get(i).getJobId(), i);
+        }
     }
 
     @Override
     public void setJob(Job targetJob, Job editedJob) {
         requireAllNonNull(targetJob, editedJob);
 
-        int index = internalList.indexOf(targetJob);
-        if (index == -1) {
+        Integer index = idToIndex.get(targetJob.getJobId());
+        if (index == null || !internalList.get(index).equals(targetJob)) {
             throw new JobNotFoundException();
         }
 
@@ -91,21 +113,47 @@ public class UniqueJobList implements JobList {
             throw new DuplicateJobException();
         }
 
+        jobIndex.remove(targetJob);
+        jobIndex.put(editedJob);
         internalList.set(index, editedJob);
+        idToIndex.remove(targetJob.getJobId());
+        idToIndex.put(editedJob.getJobId(), index);
     }
 
     public void setJobs(UniqueJobList replacement) {
         requireNonNull(replacement);
+        resetIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        idToIndex.clear();
+        idToIndex.putAll(replacement.idToIndex);
     }
 
     @Override
     public void setJobs(List<Job> jobs) {
         requireAllNonNull(jobs);
-        if (!jobsAreUnique(jobs)) {
-            throw new DuplicateJobException();
+        Set<ID> duplicateIds = CollectionUtil.findDuplicateKeys(jobs, Job::getJobId);
+        if (!duplicateIds.isEmpty()) {
+            throw new DuplicateJobException(duplicateIds);
         }
+        resetIndex(jobs);
         internalList.setAll(jobs);
+        idToIndex.clear();
+        for (int i = 0; i < jobs.size(); i++) {
+            idToIndex.put(jobs.get(i).getJobId(), i);
+        }
+    }
+
+    private void resetIndex(List<Job> jobs) {
+        jobIndex.clear();
+        jobs.forEach(jobIndex::put);
+    }
+
+    /**
+     * Returns the sorted indexes of the jobs in this list.
+     */
+    @Override
+    public JobIndex getJobIndex() {
+        return jobIndex;
     }
 
     /**
@@ -116,18 +164,11 @@ public class UniqueJobList implements JobList {
     }
 
     /**
-     * Returns true if {@code jobs} contains only unique persons.
+     * Returns true if {@code jobs} contains only unique jobs.
      */
     @Override
     public boolean jobsAreUnique(List<Job> jobs) {
-        for (int i = 0; i < jobs.size() - 1; i++) {
-            for (int j = i + 1; j < jobs.size(); j++) {
-                if (jobs.get(i).isSameJob(jobs.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return CollectionUtil.findDuplicateKeys(jobs, Job::getJobId).isEmpty();
     }
 
     @Override
@@ -176,17 +217,13 @@ public class UniqueJobList implements JobList {
         @Override
         public UniqueJobList deserialize(JsonParser p, DeserializationContext ctx)
             throws IOException, JsonProcessingException {
-            JsonNode node = p.readValueAsTree();
-            ObjectCodec codec = p.getCodec();
+            JsonUtil.requireCurrentToken(p, JsonToken.START_ARRAY, ctx, MISSING_OR_INVALID_INSTANCE);
 
-            if (!(node instanceof ArrayNode)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
+            List<Job> jobList = new ArrayList<>();
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                jobList.add(JsonUtil.readValue(p, ctx, Job.class));
             }
 
-            List<Job> jobList = node // is ArrayNode
-                .traverse(codec)
-                .readValueAs(new TypeReference<List<Job>>(){});
-
             UniqueJobList ujl = new UniqueJobList();
             ujl.setJobs(jobList);
 
@@ -1,5 +1,9 @@
 package peoplesoft.model.job.exceptions;
 
+import java.util.Collection;
+
+import peoplesoft.model.util.ID;
+
 /**
  * Signals that the operation will result in duplicate Jobs (Jobs are considered duplicates if they have the same
  * identity).
@@ -8,4 +12,11 @@ public class DuplicateJobException extends RuntimeException {
     public DuplicateJobException() {
         super("Operation would result in duplicate jobs");
     }
+
+    /**
+     * Creates a {@code DuplicateJobException} reporting the ids that are shared by more than one of the jobs.
+     */
+    public DuplicateJobException(Collection<ID> duplicateIds) {
+        super("Operation would result in duplicate jobs with ids: " + duplicateIds);
+    }
 }
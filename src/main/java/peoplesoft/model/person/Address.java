@@ -4,18 +4,17 @@ import static java.util.Objects.requireNonNull;
 import static peoplesoft.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.util.regex.Pattern;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.TextNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import peoplesoft.commons.util.JsonUtil;
@@ -34,6 +33,7 @@ public class Address {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -52,7 +52,7 @@ public class Address {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -101,18 +101,12 @@ public class Address {
         @Override
         public Address deserialize(JsonParser p, DeserializationContext ctx)
                 throws IOException, JsonProcessingException {
-            JsonNode node = p.readValueAsTree();
-
-            if (!(node instanceof TextNode)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
-            }
-
-            String address = ((TextNode) node).textValue();
-            if (!Address.isValidAddress(address)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, Address.MESSAGE_CONSTRAINTS);
+            String address = JsonUtil.getTextValue(p, ctx, MISSING_OR_INVALID_INSTANCE);
+            try {
+                return new Address(address);
+            } catch (IllegalArgumentException e) {
+                throw JsonUtil.getWrappedIllegalValueException(ctx, Address.MESSAGE_CONSTRAINTS, e);
             }
-
-            return new Address(address);
         }
 
         @Override
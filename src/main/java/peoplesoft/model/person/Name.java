@@ -4,21 +4,21 @@ import static java.util.Objects.requireNonNull;
 import static peoplesoft.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.util.regex.Pattern;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.TextNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import peoplesoft.commons.util.JsonUtil;
+import peoplesoft.commons.util.StringUtil;
 
 /**
  * Represents a Person's name in the address book.
@@ -35,9 +35,13 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullName;
 
+    // Computed when first needed, as most names are never searched
+    private String[] lowerCaseWords;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -53,9 +57,19 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
+    /**
+     * Returns the words in this name in lower case, as returned by {@link StringUtil#toLowerCaseWords(String)}.
+     * The returned array must not be modified.
+     */
+    public String[] getLowerCaseWords() {
+        if (lowerCaseWords == null) {
+            lowerCaseWords = StringUtil.toLowerCaseWords(fullName);
+        }
+        return lowerCaseWords;
+    }
 
     @Override
     public String toString() {
@@ -103,18 +117,12 @@ public class Name {
         @Override
         public Name deserialize(JsonParser p, DeserializationContext ctx)
                 throws IOException, JsonProcessingException {
-            JsonNode node = p.readValueAsTree();
-
-            if (!(node instanceof TextNode)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
-            }
-
-            String name = ((TextNode) node).textValue();
-            if (!Name.isValidName(name)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, Name.MESSAGE_CONSTRAINTS);
+            String name = JsonUtil.getTextValue(p, ctx, MISSING_OR_INVALID_INSTANCE);
+            try {
+                return new Name(name);
+            } catch (IllegalArgumentException e) {
+                throw JsonUtil.getWrappedIllegalValueException(ctx, Name.MESSAGE_CONSTRAINTS, e);
             }
-
-            return new Name(name);
         }
 
         @Override
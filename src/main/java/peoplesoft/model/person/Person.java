@@ -12,17 +12,14 @@ import java.util.function.UnaryOperator;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import peoplesoft.commons.util.JsonUtil;
@@ -49,6 +46,9 @@ public class Person {
     private final Rate rate;
     private final Set<Tag> tags = new HashSet<>();
 
+    // Computed on first use
+    private int hash;
+
     /**
      * Every field must be present and not null.
      */
@@ -135,7 +135,12 @@ public class Person {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(id, name, phone, email, address, rate, tags);
+        int result = hash;
+        if (result == 0) {
+            result = Objects.hash(id, name, phone, email, address, rate, tags);
+            hash = result;
+        }
+        return result;
     }
 
     @Override
@@ -191,6 +196,7 @@ public class Person {
         private static final String MISSING_OR_INVALID_INSTANCE = "The person instance is invalid or missing!";
         private static final UnaryOperator<String> INVALID_VAL_FMTR =
             k -> String.format("This person's %s value is invalid!", k);
+        private static final TypeReference<Set<Tag>> TAG_SET_TYPE = new TypeReference<Set<Tag>>(){};
 
         private PersonDeserializer(Class<?> vc) {
             super(vc);
@@ -200,58 +206,57 @@ public class Person {
             this(null);
         }
 
-        private static JsonNode getNonNullNode(ObjectNode node, String key, DeserializationContext ctx)
-                    throws JsonMappingException {
-            return JsonUtil.getNonNullNode(node, key, ctx, INVALID_VAL_FMTR);
-        }
-
-        private static <T> T getNonNullNodeWithType(ObjectNode node, String key, DeserializationContext ctx,
-                    Class<T> cls) throws JsonMappingException {
-            return JsonUtil.getNonNullNodeWithType(node, key, ctx,
-                    INVALID_VAL_FMTR, cls);
-        }
-
         @Override
         public Person deserialize(JsonParser p, DeserializationContext ctx)
                     throws IOException, JsonProcessingException {
-            JsonNode node = p.readValueAsTree();
-            ObjectCodec codec = p.getCodec();
-
-            if (!(node instanceof ObjectNode)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
+            JsonUtil.requireCurrentToken(p, JsonToken.START_OBJECT, ctx, MISSING_OR_INVALID_INSTANCE);
+
+            ID id = null;
+            Name name = null;
+            Phone phone = null;
+            Email email = null;
+            Address address = null;
+            Rate rate = null;
+            Set<Tag> tags = null;
+
+            for (String key = p.nextFieldName(); key != null; key = p.nextFieldName()) {
+                p.nextToken();
+                switch (key) {
+                case "id":
+                    id = JsonUtil.readValue(p, ctx, ID.class);
+                    break;
+                case "name":
+                    name = JsonUtil.readValue(p, ctx, Name.class);
+                    break;
+                case "phone":
+                    phone = JsonUtil.readValue(p, ctx, Phone.class);
+                    break;
+                case "email":
+                    email = JsonUtil.readValue(p, ctx, Email.class);
+                    break;
+                case "address":
+                    address = JsonUtil.readValue(p, ctx, Address.class);
+                    break;
+                case "rate":
+                    rate = JsonUtil.readValue(p, ctx, Rate.class);
+                    break;
+                case "tagged":
+                    JsonUtil.requireCurrentToken(p, JsonToken.START_ARRAY, ctx, INVALID_VAL_FMTR.apply(key));
+                    tags = JsonUtil.readValue(p, ctx, TAG_SET_TYPE);
+                    break;
+                default:
+                    p.skipChildren();
+                }
             }
 
-            ObjectNode person = (ObjectNode) node;
-
-            ID id = getNonNullNode(person, "id", ctx)
-                    .traverse(codec)
-                    .readValueAs(ID.class);
-
-            Name name = getNonNullNode(person, "name", ctx)
-                    .traverse(codec)
-                    .readValueAs(Name.class);
-
-            Phone phone = getNonNullNode(person, "phone", ctx)
-                    .traverse(codec)
-                    .readValueAs(Phone.class);
-
-            Email email = getNonNullNode(person, "email", ctx)
-                    .traverse(codec)
-                    .readValueAs(Email.class);
-
-            Address address = getNonNullNode(person, "address", ctx)
-                    .traverse(codec)
-                    .readValueAs(Address.class);
-
-            Rate rate = getNonNullNode(person, "rate", ctx)
-                    .traverse(codec)
-                    .readValueAs(Rate.class);
-
-            Set<Tag> tags = getNonNullNodeWithType(person, "tagged", ctx, ArrayNode.class)
-                    .traverse(codec)
-                    .readValueAs(new TypeReference<Set<Tag>>(){});
-
-            return new Person(id, name, phone, email, address, rate, tags);
+            return new Person(
+                    JsonUtil.requireField(id, "id", ctx, INVALID_VAL_FMTR),
+                    JsonUtil.requireField(name, "name", ctx, INVALID_VAL_FMTR),
+                    JsonUtil.requireField(phone, "phone", ctx, INVALID_VAL_FMTR),
+                    JsonUtil.requireField(email, "email", ctx, INVALID_VAL_FMTR),
+                    JsonUtil.requireField(address, "address", ctx, INVALID_VAL_FMTR),
+                    JsonUtil.requireField(rate, "rate", ctx, INVALID_VAL_FMTR),
+                    JsonUtil.requireField(tags, "tagged", ctx, INVALID_VAL_FMTR));
         }
 
         @Override
@@ -0,0 +1,367 @@
+package peoplesoft.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static peoplesoft.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import peoplesoft.commons.util.KeywordMatcher;
+import peoplesoft.commons.util.StringUtil;
+import peoplesoft.model.tag.Tag;
+import peoplesoft.model.tag.TagQuery;
+import peoplesoft.model.util.ID;
+
+/**
+ * A column-oriented copy of the searchable fields of the persons in a {@code UniquePersonList}.
+ * Each person occupies a row, and each field is kept in its own array, so that a query only reads the fields it
+ * needs, and does not re-derive them, e.g. by splitting names into words, for every person it is run on.
+ *
+ * The words in names and the tags are also indexed: each of them maps to the rows of the persons that have it,
+ * so that a query for a few keywords only looks at the rows that have them, instead of at every row. Tags have a
+ * separate index as well, so that conditions on tags alone can be evaluated with bitwise operations.
+ *
+ * For fuzzy matching, the words of names, emails and addresses are indexed by their trigrams, the runs of three
+ * characters in each word padded with {@code TRIGRAM_PADDING}. A keyword within a few edits of a word shares most
+ * of its trigrams, so only the rows that share enough of them need to be compared with it.
+ *
+ * Rows are not in the order of the list. The row of a removed person is reused by a later one.
+ */
+public class PersonColumns {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int[] NO_TAGS = new int[0];
+    private static final String TRIGRAM_PADDING = "$$";
+    /** The number of trigrams of a word that a single edit can change, which is the most for a swap. */
+    private static final int TRIGRAMS_PER_EDIT = 4;
+
+    private final Map<ID, Integer> rowsById = new HashMap<>();
+    private int[] freeRows = new int[INITIAL_CAPACITY];
+    private int freeRowCount = 0;
+    private int rowCount = 0;
+    private final BitSet rowsInUse = new BitSet();
+
+    // One element per row; null for rows that are not in use. Name words are in lower case.
+    private ID[] ids = new ID[INITIAL_CAPACITY];
+    private String[][] nameWords = new String[INITIAL_CAPACITY][];
+    private int[][] tagIds = new int[INITIAL_CAPACITY][];
+    private String[][] tokens = new String[INITIAL_CAPACITY][];
+
+    // Tag names in lower case, and the rows of the persons with each tag, indexed by the ids that tagIds refers to
+    // them by. Ids are not reused, as there are few distinct tags.
+    private final List<String> tagNames = new ArrayList<>();
+    private final List<BitSet> rowsByTagId = new ArrayList<>();
+    private final Map<String, Integer> tagIdsByName = new HashMap<>();
+
+    /** Rows of the persons with each name word or tag name, keyed by {@link StringUtil#toLowerCase(String)}. */
+    private final Map<String, BitSet> rowsByToken = new HashMap<>();
+
+    /** Rows of the persons with each trigram in the words of their name, email or address. */
+    private final Map<String, BitSet> rowsByTrigram = new HashMap<>();
+
+    /** Incremented on every change, so that query results can tell when they are out of date. */
+    private long modCount = 0;
+
+    /**
+     * Adds {@code person}, or replaces the person with the same id.
+     */
+    void put(Person person) {
+        requireNonNull(person);
+        modCount++;
+
+        Integer existingRow = rowsById.get(person.getPersonId());
+        int row;
+        if (existingRow != null) {
+            row = existingRow;
+            unindex(row);
+        } else {
+            row = allocateRow();
+        }
+        rowsById.put(person.getPersonId(), row);
+        rowsInUse.set(row);
+        ids[row] = person.getPersonId();
+        nameWords[row] = person.getName().getLowerCaseWords();
+        tagIds[row] = toTagIds(person);
+        tokens[row] = PersonFuzzyMatchPredicate.toTokens(person);
+        index(row);
+    }
+
+    /**
+     * Removes the person with {@code personId}, if any.
+     */
+    void remove(ID personId) {
+        requireNonNull(personId);
+        Integer row = rowsById.remove(personId);
+        if (row == null) {
+            return;
+        }
+
+        modCount++;
+        unindex(row);
+        rowsInUse.clear(row);
+        ids[row] = null;
+        nameWords[row] = null;
+        tagIds[row] = null;
+        tokens[row] = null;
+        if (freeRowCount == freeRows.length) {
+            freeRows = Arrays.copyOf(freeRows, freeRowCount * 2);
+        }
+        freeRows[freeRowCount++] = row;
+    }
+
+    /**
+     * Removes all persons.
+     */
+    void clear() {
+        modCount++;
+        rowsById.clear();
+        rowsByToken.clear();
+        rowsByTrigram.clear();
+        rowsByTagId.forEach(BitSet::clear);
+        rowsInUse.clear();
+        Arrays.fill(ids, 0, rowCount, null);
+        Arrays.fill(nameWords, 0, rowCount, null);
+        Arrays.fill(tagIds, 0, rowCount, null);
+        Arrays.fill(tokens, 0, rowCount, null);
+        rowCount = 0;
+        freeRowCount = 0;
+    }
+
+    /**
+     * Returns the row of the person with {@code personId}, or -1 if there is none.
+     */
+    public int getRow(ID personId) {
+        requireNonNull(personId);
+        return rowsById.getOrDefault(personId, -1);
+    }
+
+    public long getModCount() {
+        return modCount;
+    }
+
+    /**
+     * Returns the rows of the persons that have a word in their name or a tag that is equal to each keyword in
+     * {@code keywords}, ignoring case, or no rows if there are no keywords.
+     */
+    public BitSet findRowsMatchingAll(List<String> keywords) {
+        requireNonNull(keywords);
+        if (keywords.isEmpty()) {
+            return new BitSet();
+        }
+
+        List<BitSet> postings = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            BitSet rows = rowsByToken.get(StringUtil.toLowerCase(keyword));
+            if (rows == null) {
+                return new BitSet();
+            }
+            postings.add(rows);
+        }
+
+        // Intersecting from the rarest keyword keeps the intermediate results small
+        postings.sort(Comparator.comparingInt(BitSet::cardinality));
+        BitSet matches = (BitSet) postings.get(0).clone();
+        for (int i = 1; i < postings.size() && !matches.isEmpty(); i++) {
+            matches.and(postings.get(i));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the rows of all persons.
+     */
+    public BitSet getRowsInUse() {
+        return (BitSet) rowsInUse.clone();
+    }
+
+    /**
+     * Returns the rows of the persons whose tags satisfy {@code query}.
+     */
+    public BitSet findRowsMatching(TagQuery query) {
+        requireNonNull(query);
+        BitSet matches = getRowsInUse();
+        for (Set<String> group : query.getRequiredGroups()) {
+            BitSet anyOfGroup = new BitSet();
+            for (String tagName : group) {
+                Integer tagId = tagIdsByName.get(tagName);
+                if (tagId != null) {
+                    anyOfGroup.or(rowsByTagId.get(tagId));
+                }
+            }
+            matches.and(anyOfGroup);
+        }
+        for (String tagName : query.getExcludedTags()) {
+            Integer tagId = tagIdsByName.get(tagName);
+            if (tagId != null) {
+                matches.andNot(rowsByTagId.get(tagId));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns true if the tags of the person in {@code row} satisfy {@code query}.
+     */
+    public boolean matches(int row, TagQuery query) {
+        requireNonNull(query);
+        if (row < 0 || !rowsInUse.get(row)) {
+            return false;
+        }
+        for (Set<String> group : query.getRequiredGroups()) {
+            if (group.stream().noneMatch(tagName -> hasTag(row, tagName))) {
+                return false;
+            }
+        }
+        return query.getExcludedTags().stream().noneMatch(tagName -> hasTag(row, tagName));
+    }
+
+    private boolean hasTag(int row, String tagName) {
+        Integer tagId = tagIdsByName.get(tagName);
+        return tagId != null && rowsByTagId.get(tagId).get(row);
+    }
+
+    /**
+     * Returns true if {@code matcher} has keywords, and the person in {@code row} has a word in their name or a tag
+     * that is equal to each of them, ignoring case. Only the cached words and tags of the row are read.
+     */
+    public boolean matchesAll(int row, KeywordMatcher matcher) {
+        requireNonNull(matcher);
+        if (row < 0 || !rowsInUse.get(row) || matcher.getKeywordCount() == 0 || matcher.hasUnmatchableKeyword()) {
+            return false;
+        }
+        BitSet found = new BitSet(matcher.getKeywordCount());
+        for (String word : nameWords[row]) {
+            matcher.findWhole(word, found);
+        }
+        for (int tagId : tagIds[row]) {
+            matcher.findWhole(tagNames.get(tagId), found);
+        }
+        return found.cardinality() == matcher.getKeywordCount();
+    }
+
+    /**
+     * Returns the words in the name, email and address of the person in {@code row}, in lower case.
+     */
+    public String[] getTokens(int row) {
+        checkArgument(row >= 0 && rowsInUse.get(row));
+        return tokens[row];
+    }
+
+    /**
+     * Returns the rows of the persons that could have a word within {@code maxDistance} edits of {@code keyword},
+     * which is in lower case. Every such row is returned, but some of the rows may not have one.
+     */
+    public BitSet findRowsNear(String keyword, int maxDistance) {
+        requireNonNull(keyword);
+        Set<String> trigrams = toTrigrams(keyword);
+        // Each edit changes at most a few trigrams, so a near word has all but those of the keyword's trigrams
+        int minSharedTrigrams = trigrams.size() - maxDistance * TRIGRAMS_PER_EDIT;
+        if (minSharedTrigrams <= 0) {
+            return getRowsInUse();
+        }
+
+        int[] sharedTrigrams = new int[rowCount];
+        BitSet matches = new BitSet();
+        for (String trigram : trigrams) {
+            BitSet rows = rowsByTrigram.get(trigram);
+            if (rows == null) {
+                continue;
+            }
+            for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+                if (++sharedTrigrams[row] == minSharedTrigrams) {
+                    matches.set(row);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static Set<String> toTrigrams(String word) {
+        String padded = TRIGRAM_PADDING + word + TRIGRAM_PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private void index(int row) {
+        for (String word : nameWords[row]) {
+            rowsByToken.computeIfAbsent(word, key -> new BitSet()).set(row);
+        }
+        for (int tagId : tagIds[row]) {
+            rowsByToken.computeIfAbsent(tagNames.get(tagId), key -> new BitSet()).set(row);
+            rowsByTagId.get(tagId).set(row);
+        }
+        for (String token : tokens[row]) {
+            for (String trigram : toTrigrams(token)) {
+                rowsByTrigram.computeIfAbsent(trigram, key -> new BitSet()).set(row);
+            }
+        }
+    }
+
+    private void unindex(int row) {
+        for (String word : nameWords[row]) {
+            unindex(rowsByToken, row, word);
+        }
+        for (int tagId : tagIds[row]) {
+            unindex(rowsByToken, row, tagNames.get(tagId));
+            rowsByTagId.get(tagId).clear(row);
+        }
+        for (String token : tokens[row]) {
+            for (String trigram : toTrigrams(token)) {
+                unindex(rowsByTrigram, row, trigram);
+            }
+        }
+    }
+
+    private static void unindex(Map<String, BitSet> index, int row, String key) {
+        BitSet rows = index.get(key);
+        if (rows == null) {
+            // Already removed through another word, tag or trigram of the row with the same key
+            return;
+        }
+        rows.clear(row);
+        if (rows.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private int[] toTagIds(Person person) {
+        if (person.getTags().isEmpty()) {
+            return NO_TAGS;
+        }
+
+        int[] result = new int[person.getTags().size()];
+        int i = 0;
+        for (Tag tag : person.getTags()) {
+            result[i++] = tagIdsByName.computeIfAbsent(StringUtil.toLowerCase(tag.getTagName()), name -> {
+                tagNames.add(name);
+                rowsByTagId.add(new BitSet());
+                return tagNames.size() - 1;
+            });
+        }
+        return result;
+    }
+
+    private int allocateRow() {
+        if (freeRowCount > 0) {
+            return freeRows[--freeRowCount];
+        }
+
+        if (rowCount == ids.length) {
+            int capacity = rowCount * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            nameWords = Arrays.copyOf(nameWords, capacity);
+            tagIds = Arrays.copyOf(tagIds, capacity);
+            tokens = Arrays.copyOf(tokens, capacity);
+        }
+        return rowCount++;
+    }
+}
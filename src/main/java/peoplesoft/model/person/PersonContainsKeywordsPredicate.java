@@ -1,34 +1,147 @@
 package peoplesoft.model.person;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+import peoplesoft.commons.util.KeywordMatcher;
 import peoplesoft.commons.util.StringUtil;
+import peoplesoft.model.tag.Tag;
+import peoplesoft.model.tag.TagQuery;
 
 /**
- * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code Person}'s {@code Name} or tags match all of the keywords given, and that their tags satisfy a
+ * {@code TagQuery}.
  */
 public class PersonContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final TagQuery tagQuery;
+    private final KeywordMatcher matcher;
 
+    /**
+     * Creates a predicate that matches persons with a word in their name or a tag equal to each of
+     * {@code keywords}, ignoring case.
+     *
+     * @param keywords Single words.
+     */
     public PersonContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, TagQuery.EMPTY);
+    }
+
+    /**
+     * Creates a predicate that matches persons with a word in their name or a tag equal to each of
+     * {@code keywords}, ignoring case, and whose tags satisfy {@code tagQuery}.
+     * If there are neither keywords nor conditions on tags, no person is matched.
+     *
+     * @param keywords Single words.
+     * @param tagQuery Condition on tags.
+     */
+    public PersonContainsKeywordsPredicate(List<String> keywords, TagQuery tagQuery) {
+        requireNonNull(keywords);
+        requireNonNull(tagQuery);
         this.keywords = keywords;
+        this.tagQuery = tagQuery;
+        matcher = new KeywordMatcher(keywords.stream().map(String::trim).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns a predicate that matches the same persons as this one, with the keywords in lower case, without
+     * duplicates and sorted, so that predicates that only differ in the order or case of their keywords are equal.
+     */
+    public PersonContainsKeywordsPredicate normalize() {
+        List<String> normalizedKeywords = keywords.stream()
+                .map(String::trim)
+                .map(StringUtil::toLowerCase)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+        return new PersonContainsKeywordsPredicate(normalizedKeywords, tagQuery);
     }
 
     @Override
     public boolean test(Person person) {
-        return !keywords.isEmpty() && keywords.stream()
-                .allMatch(keyword -> (
-                        person.getTags().stream().anyMatch(
-                            tag -> keyword.equalsIgnoreCase(tag.getTagName())))
-                        || StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        if (isEmpty() || !tagQuery.test(person.getTags())) {
+            return false;
+        }
+        if (keywords.isEmpty()) {
+            return true;
+        }
+        if (matcher.hasUnmatchableKeyword()) {
+            return false;
+        }
+
+        BitSet found = new BitSet(matcher.getKeywordCount());
+        matcher.findWords(person.getName().fullName, found);
+        for (Tag tag : person.getTags()) {
+            matcher.findWhole(tag.getTagName(), found);
+        }
+        return found.cardinality() == matcher.getKeywordCount();
+    }
+
+    private boolean isEmpty() {
+        return keywords.isEmpty() && tagQuery.isEmpty();
+    }
+
+    /**
+     * Returns a predicate equivalent to this one, which reads the fields of persons from {@code columns}.
+     * The persons that match are looked up in the index of {@code columns} the first time it is tested. Persons that
+     * are not in {@code columns}, or are tested after it changes, are matched one at a time.
+     */
+    public Predicate<Person> using(PersonColumns columns) {
+        requireNonNull(columns);
+        return new Predicate<>() {
+            private final long scannedModCount = columns.getModCount();
+            private BitSet matchingRows;
+
+            @Override
+            public boolean test(Person person) {
+                int row = columns.getRow(person.getPersonId());
+                if (row == -1) {
+                    return PersonContainsKeywordsPredicate.this.test(person);
+                }
+                if (columns.getModCount() != scannedModCount) {
+                    return matches(columns, row);
+                }
+                if (matchingRows == null) {
+                    matchingRows = findMatchingRows(columns);
+                }
+                return matchingRows.get(row);
+            }
+        };
+    }
+
+    private BitSet findMatchingRows(PersonColumns columns) {
+        if (isEmpty()) {
+            return new BitSet();
+        }
+        BitSet rows = keywords.isEmpty() ? columns.getRowsInUse() : columns.findRowsMatchingAll(keywords);
+        if (!tagQuery.isEmpty()) {
+            rows.and(columns.findRowsMatching(tagQuery));
+        }
+        return rows;
+    }
+
+    private boolean matches(PersonColumns columns, int row) {
+        return !isEmpty()
+                && (keywords.isEmpty() || columns.matchesAll(row, matcher))
+                && columns.matches(row, tagQuery);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof PersonContainsKeywordsPredicate // instanceof handles nulls
-                && keywords.equals(((PersonContainsKeywordsPredicate) other).keywords)); // state check
+                && keywords.equals(((PersonContainsKeywordsPredicate) other).keywords) // state check
+                && tagQuery.equals(((PersonContainsKeywordsPredicate) other).tagQuery));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords, tagQuery);
     }
 
 }
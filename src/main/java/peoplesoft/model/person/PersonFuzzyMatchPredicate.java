@@ -0,0 +1,200 @@
+package peoplesoft.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import peoplesoft.commons.util.StringUtil;
+
+/**
+ * Tests that each of the keywords given is within a few edits of a word in a {@code Person}'s name, email or
+ * address, ignoring case, so that misspelt keywords still find the person. Words are the runs of letters and digits.
+ *
+ * The number of edits allowed grows with the length of a keyword: short keywords must match exactly, as most short
+ * words are only a few edits apart.
+ */
+public class PersonFuzzyMatchPredicate implements Predicate<Person> {
+    /** Distance of a person that does not match. */
+    public static final int NO_MATCH = Integer.MAX_VALUE;
+
+    /** Keywords of up to this length must match a word exactly. */
+    public static final int MAX_EXACT_LENGTH = 2;
+    /** Keywords of up to this length may be one edit away from a word. Longer keywords may be two edits away. */
+    public static final int MAX_ONE_EDIT_LENGTH = 5;
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a predicate that matches persons with a word near to each of {@code keywords}.
+     * If there are no keywords, no person is matched.
+     *
+     * @param keywords Single words.
+     */
+    public PersonFuzzyMatchPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords.stream()
+                .map(String::trim)
+                .map(StringUtil::toLowerCase)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns the number of edits a word may be away from {@code keyword} to match it.
+     */
+    public static int getMaxDistance(String keyword) {
+        if (keyword.length() <= MAX_EXACT_LENGTH) {
+            return 0;
+        }
+        return keyword.length() <= MAX_ONE_EDIT_LENGTH ? 1 : 2;
+    }
+
+    /**
+     * Returns the words that keywords are matched against in the name, email and address of {@code person}.
+     */
+    static String[] toTokens(Person person) {
+        return StringUtil.toLowerCaseTokens(String.join(" ", person.getName().fullName,
+                person.getEmail().value, person.getAddress().value));
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return distanceTo(person) != NO_MATCH;
+    }
+
+    /**
+     * Returns the total number of edits between each keyword and the nearest word of {@code person}, or
+     * {@code NO_MATCH} if the person does not match.
+     */
+    public int distanceTo(Person person) {
+        requireNonNull(person);
+        return distanceTo(toTokens(person));
+    }
+
+    private int distanceTo(String[] tokens) {
+        if (keywords.isEmpty()) {
+            return NO_MATCH;
+        }
+
+        int total = 0;
+        for (String keyword : keywords) {
+            int maxDistance = getMaxDistance(keyword);
+            int nearest = maxDistance + 1;
+            for (int i = 0; i < tokens.length && nearest > 0; i++) {
+                nearest = Math.min(nearest, StringUtil.editDistance(keyword, tokens[i], maxDistance));
+            }
+            if (nearest > maxDistance) {
+                return NO_MATCH;
+            }
+            total += nearest;
+        }
+        return total;
+    }
+
+    /**
+     * Returns a predicate equivalent to this one, which reads the words of persons from {@code columns}.
+     * Only the persons that share enough trigrams with the keywords in the index of {@code columns} are compared
+     * with them, the first time it is tested. Persons that are not in {@code columns}, or are tested after it
+     * changes, are matched one at a time.
+     */
+    public ColumnQuery using(PersonColumns columns) {
+        requireNonNull(columns);
+        return new ColumnQuery(columns);
+    }
+
+    /**
+     * A {@code PersonFuzzyMatchPredicate} that reads the words of persons from a {@code PersonColumns}, and keeps
+     * the distances of the persons that match it until the columns change.
+     */
+    public class ColumnQuery implements Predicate<Person> {
+        private final PersonColumns columns;
+        private long cachedModCount;
+        // Distances of rows as of cachedModCount: of every matching row after the first scan, or of the rows
+        // compared so far once the columns change
+        private Map<Integer, Integer> distanceByRow;
+        private boolean isScanned;
+
+        private ColumnQuery(PersonColumns columns) {
+            this.columns = columns;
+            cachedModCount = columns.getModCount();
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return distanceTo(person) != NO_MATCH;
+        }
+
+        /**
+         * Returns the distance of {@code person} from the keywords, as in {@link PersonFuzzyMatchPredicate#distanceTo}.
+         * The distance of each row is computed at most once until the columns change again.
+         */
+        public int distanceTo(Person person) {
+            int row = columns.getRow(person.getPersonId());
+            if (row == -1) {
+                return PersonFuzzyMatchPredicate.this.distanceTo(person);
+            }
+            if (columns.getModCount() != cachedModCount) {
+                // Any row may have changed, but only the few compared with a changed person are computed again
+                cachedModCount = columns.getModCount();
+                distanceByRow = new HashMap<>();
+                isScanned = false;
+            }
+            if (distanceByRow == null) {
+                distanceByRow = findMatchingRows(columns);
+                isScanned = true;
+            }
+            if (isScanned) {
+                return distanceByRow.getOrDefault(row, NO_MATCH);
+            }
+            return distanceByRow.computeIfAbsent(row, key ->
+                    PersonFuzzyMatchPredicate.this.distanceTo(columns.getTokens(key)));
+        }
+
+        /**
+         * Returns an order of persons from the nearest to the keywords to the furthest, and then by ID.
+         */
+        public Comparator<Person> byDistance() {
+            return Comparator.comparingInt(this::distanceTo).thenComparing(Person::getPersonId);
+        }
+    }
+
+    private Map<Integer, Integer> findMatchingRows(PersonColumns columns) {
+        Map<Integer, Integer> distanceByRow = new HashMap<>();
+        if (keywords.isEmpty()) {
+            return distanceByRow;
+        }
+        BitSet rows = columns.getRowsInUse();
+        for (String keyword : keywords) {
+            rows.and(columns.findRowsNear(keyword, getMaxDistance(keyword)));
+        }
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            int distance = distanceTo(columns.getTokens(row));
+            if (distance != NO_MATCH) {
+                distanceByRow.put(row, distance);
+            }
+        }
+        return distanceByRow;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonFuzzyMatchPredicate // instanceof handles nulls
+                && keywords.equals(((PersonFuzzyMatchPredicate) other).keywords)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return keywords.toString();
+    }
+}
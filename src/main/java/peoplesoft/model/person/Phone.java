@@ -4,18 +4,17 @@ import static java.util.Objects.requireNonNull;
 import static peoplesoft.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.util.regex.Pattern;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.TextNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import peoplesoft.commons.util.JsonUtil;
@@ -30,6 +29,7 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final String value;
 
     /**
@@ -47,7 +47,7 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -96,18 +96,12 @@ public class Phone {
         @Override
         public Phone deserialize(JsonParser p, DeserializationContext ctx)
                 throws IOException, JsonProcessingException {
-            JsonNode node = p.readValueAsTree();
-
-            if (!(node instanceof TextNode)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
-            }
-
-            String phone = ((TextNode) node).textValue();
-            if (!Phone.isValidPhone(phone)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, Phone.MESSAGE_CONSTRAINTS);
+            String phone = JsonUtil.getTextValue(p, ctx, MISSING_OR_INVALID_INSTANCE);
+            try {
+                return new Phone(phone);
+            } catch (IllegalArgumentException e) {
+                throw JsonUtil.getWrappedIllegalValueException(ctx, Phone.MESSAGE_CONSTRAINTS, e);
             }
-
-            return new Phone(phone);
         }
 
         @Override
@@ -4,26 +4,28 @@ import static java.util.Objects.requireNonNull;
 import static peoplesoft.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.ObjectCodec;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import peoplesoft.commons.util.CollectionUtil;
 import peoplesoft.commons.util.JsonUtil;
 import peoplesoft.model.person.exceptions.DuplicatePersonException;
 import peoplesoft.model.person.exceptions.PersonNotFoundException;
@@ -36,7 +38,9 @@ import peoplesoft.model.util.ID;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. Persons are indexed by {@code ID}, so lookups, additions and edits
+ * take constant time. Removals keep the order of the list, so they take time linear in the number of persons after
+ * the removed one.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -48,12 +52,24 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /**
+     * Maps {@code ID} to the position of the {@code Person} with that id in {@code internalList}.
+     * Must be kept in sync with {@code internalList} by every mutating operation.
+     */
+    private final Map<ID, Integer> idToIndex = new HashMap<>();
+
+    /**
+     * The searchable fields of the persons in {@code internalList}.
+     * Must be updated before {@code internalList}, so that listeners of the list see it up to date.
+     */
+    private final PersonColumns columns = new PersonColumns();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(ID personId) {
         requireNonNull(personId);
-        return internalList.stream().anyMatch(p -> p != null && personId.equals(p.getPersonId()));
+        return idToIndex.containsKey(personId);
     }
 
     /**
@@ -63,10 +79,11 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public Person get(ID personId) throws PersonNotFoundException {
         requireNonNull(personId);
-        return internalList.stream()
-            .filter(p -> p != null && personId.equals(p.getPersonId()))
-            .findAny()
-            .orElseThrow(PersonNotFoundException::new);
+        Integer index = idToIndex.get(personId);
+        if (index == null) {
+            throw new PersonNotFoundException();
+        }
+        return internalList.get(index);
     }
 
     /**
@@ -78,6 +95,8 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd.getPersonId())) {
             throw new DuplicatePersonException();
         }
+        columns.put(toAdd);
+        idToIndex.put(toAdd.getPersonId(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -89,8 +108,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Integer index = idToIndex.get(target.getPersonId());
+        if (index == null || !internalList.get(index).equals(target)) {
             throw new PersonNotFoundException();
         }
 
@@ -98,6 +117,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        columns.remove(target.getPersonId());
+        columns.put(editedPerson);
+        idToIndex.remove(target.getPersonId());
+        idToIndex.put(editedPerson.getPersonId(), index);
         internalList.set(index, editedPerson);
     }
 
@@ -107,13 +130,25 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Integer index = idToIndex.get(toRemove.getPersonId());
+        if (index == null || !internalList.get(index).equals(toRemove)) {
             throw new PersonNotFoundException();
         }
+        columns.remove(toRemove.getPersonId());
+
+        // The persons after the removed one move up by one, which listeners of the list may already look up
+        idToIndex.remove(toRemove.getPersonId());
+        for (int i = index + 1; i < internalList.size(); i++) {
+            idToIndex.put(internalList.get(i).getPersonId(), i - 1);
+        }
+        internalList.remove((int) index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        resetColumns(replacement.internalList);
+        idToIndex.clear();
+        idToIndex.putAll(replacement.idToIndex);
         internalList.setAll(replacement.internalList);
     }
 
@@ -123,13 +158,31 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Set<ID> duplicateIds = CollectionUtil.findDuplicateKeys(persons, Person::getPersonId);
+        if (!duplicateIds.isEmpty()) {
+            throw new DuplicatePersonException(duplicateIds);
         }
 
+        resetColumns(persons);
+        idToIndex.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            idToIndex.put(persons.get(i).getPersonId(), i);
+        }
         internalList.setAll(persons);
     }
 
+    private void resetColumns(List<Person> persons) {
+        columns.clear();
+        persons.forEach(columns::put);
+    }
+
+    /**
+     * Returns the searchable fields of the persons in this list, kept up to date as it changes.
+     */
+    public PersonColumns getColumns() {
+        return columns;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -154,20 +207,6 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.hashCode();
     }
 
-    /**
-     * Returns true if {@code persons} contains only unique persons.
-     */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
-
     protected static class UniquePersonListSerializer extends StdSerializer<UniquePersonList> {
         private UniquePersonListSerializer(Class<UniquePersonList> val) {
             super(val);
@@ -197,17 +236,13 @@ public class UniquePersonList implements Iterable<Person> {
         @Override
         public UniquePersonList deserialize(JsonParser p, DeserializationContext ctx)
                 throws IOException, JsonProcessingException {
-            JsonNode node = p.readValueAsTree();
-            ObjectCodec codec = p.getCodec();
+            JsonUtil.requireCurrentToken(p, JsonToken.START_ARRAY, ctx, MISSING_OR_INVALID_INSTANCE);
 
-            if (!(node instanceof ArrayNode)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
+            List<Person> personList = new ArrayList<>();
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                personList.add(JsonUtil.readValue(p, ctx, Person.class));
             }
 
-            List<Person> personList = node // is ArrayNode
-                .traverse(codec)
-                .readValueAs(new TypeReference<List<Person>>(){});
-
             UniquePersonList upl = new UniquePersonList();
             upl.setPersons(personList);
 
@@ -1,5 +1,9 @@
 package peoplesoft.model.person.exceptions;
 
+import java.util.Collection;
+
+import peoplesoft.model.util.ID;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
@@ -8,4 +12,11 @@ public class DuplicatePersonException extends RuntimeException {
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
     }
+
+    /**
+     * Creates a {@code DuplicatePersonException} reporting the ids that are shared by more than one of the persons.
+     */
+    public DuplicatePersonException(Collection<ID> duplicateIds) {
+        super("Operation would result in duplicate persons with ids: " + duplicateIds);
+    }
 }
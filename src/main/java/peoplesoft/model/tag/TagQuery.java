@@ -0,0 +1,103 @@
+package peoplesoft.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import peoplesoft.commons.util.StringUtil;
+
+/**
+ * Represents a condition on the tags of a person: for each of a list of groups of tags, at least one tag in the
+ * group, and none of a set of excluded tags. Tag names are compared ignoring case. Immutable.
+ */
+public class TagQuery {
+    public static final TagQuery EMPTY = new TagQuery(Collections.emptyList(), Collections.emptySet());
+
+    private final List<Set<String>> requiredGroups;
+    private final Set<String> excludedTags;
+
+    /**
+     * Creates a {@code TagQuery}.
+     *
+     * @param requiredGroups Groups of tag names, of which a person must have at least one tag in each.
+     * @param excludedTags Tag names a person must not have.
+     */
+    public TagQuery(List<Set<String>> requiredGroups, Set<String> excludedTags) {
+        requireNonNull(requiredGroups);
+        requireNonNull(excludedTags);
+        List<Set<String>> groups = new ArrayList<>();
+        for (Set<String> group : requiredGroups) {
+            groups.add(Collections.unmodifiableSet(toLowerCase(group)));
+        }
+        this.requiredGroups = Collections.unmodifiableList(groups);
+        this.excludedTags = Collections.unmodifiableSet(toLowerCase(excludedTags));
+    }
+
+    private static Set<String> toLowerCase(Set<String> tagNames) {
+        return tagNames.stream().map(StringUtil::toLowerCase).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Returns the groups of tag names, in lower case, of which a person must have at least one tag in each.
+     */
+    public List<Set<String>> getRequiredGroups() {
+        return requiredGroups;
+    }
+
+    /**
+     * Returns the tag names, in lower case, that a person must not have.
+     */
+    public Set<String> getExcludedTags() {
+        return excludedTags;
+    }
+
+    /**
+     * Returns true if this query places no condition on tags.
+     */
+    public boolean isEmpty() {
+        return requiredGroups.isEmpty() && excludedTags.isEmpty();
+    }
+
+    /**
+     * Returns true if {@code tags} satisfy this query.
+     */
+    public boolean test(Set<Tag> tags) {
+        requireNonNull(tags);
+        Set<String> tagNames = tags.stream()
+                .map(tag -> StringUtil.toLowerCase(tag.getTagName()))
+                .collect(Collectors.toSet());
+        return requiredGroups.stream().allMatch(group -> group.stream().anyMatch(tagNames::contains))
+                && excludedTags.stream().noneMatch(tagNames::contains);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof TagQuery)) {
+            return false;
+        }
+
+        TagQuery otherQuery = (TagQuery) other;
+        return requiredGroups.equals(otherQuery.requiredGroups)
+                && excludedTags.equals(otherQuery.excludedTags);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(requiredGroups, excludedTags);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("all of %s, none of %s", requiredGroups, excludedTags);
+    }
+}
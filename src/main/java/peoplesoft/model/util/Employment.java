@@ -3,22 +3,28 @@ package peoplesoft.model.util;
 import static peoplesoft.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import peoplesoft.commons.util.JsonUtil;
@@ -33,6 +39,23 @@ import peoplesoft.model.person.Person;
 @JsonSerialize(using = Employment.EmploymentSerializer.class)
 @JsonDeserialize(using = Employment.EmploymentDeserializer.class)
 public class Employment {
+    /**
+     * Listens for changes to the associations of the singleton instance of {@code Employment}.
+     */
+    public interface Listener {
+        /**
+         * Called after the {@code Job} with {@code jobId} is reassigned from the {@code Person} with
+         * {@code oldPersonId} to the one with {@code newPersonId}. Either may be null if the job was or is no
+         * longer assigned.
+         */
+        void onAssociationChanged(ID jobId, ID oldPersonId, ID newPersonId);
+
+        /**
+         * Called after the singleton instance is replaced, so all associations may have changed.
+         */
+        void onInstanceReplaced();
+    }
+
     // TODO: Refactor class name/package if necessary
     // TODO: Feel free to change implementation
     /**
@@ -41,19 +64,60 @@ public class Employment {
     private static Employment instance;
 
     /**
-     * Maps {@code JobId} to {@code Name}.
+     * Listeners of the singleton instance, which carry over when the instance is replaced.
+     * Held weakly so that registering does not keep a listener alive.
+     */
+    private static final List<WeakReference<Listener>> listeners = new ArrayList<>();
+
+    private static final String ASSIGNMENTS_KEY = "assignments";
+
+    /**
+     * Maps {@code JobId} to the {@code PersonId} of the person the job is assigned to.
+     */
+    private HashMap<ID, ID> map;
+
+    /**
+     * Maps {@code PersonId} to the {@code JobIds} assigned to that person. Kept in sync with {@code map}.
      */
-    private HashMap<ID, Name> map;
+    private HashMap<ID, Set<ID>> jobIdsByPersonId;
+
+    /**
+     * Maps {@code JobId} to {@code Name}, for associations read from data files saved before associations were
+     * keyed by {@code PersonId}. Empty once {@link #resolveLegacyAssociations(List)} is called.
+     */
+    private HashMap<ID, Name> legacyAssociations;
 
     /**
      * Constructor for {@code getInstance}.
      */
     private Employment() {
-        map = new HashMap<>();
+        this(new HashMap<>());
     }
 
-    public Employment(HashMap<ID, Name> map) {
+    /**
+     * Creates an {@code Employment} with the associations in {@code map}.
+     *
+     * @param map Map of {@code JobId} to {@code PersonId}.
+     */
+    public Employment(HashMap<ID, ID> map) {
+        requireAllNonNull(map);
         this.map = map;
+        jobIdsByPersonId = new HashMap<>();
+        legacyAssociations = new HashMap<>();
+        map.forEach(this::indexJob);
+    }
+
+    /**
+     * Returns an {@code Employment} with associations keyed by {@code Name}, as saved by older versions.
+     * They take effect once {@link #resolveLegacyAssociations(List)} is called.
+     *
+     * @param legacyAssociations Map of {@code JobId} to {@code Name}.
+     */
+    public static Employment fromLegacyAssociations(HashMap<ID, Name> legacyAssociations) {
+        requireAllNonNull(legacyAssociations);
+        Employment employment = new Employment();
+        employment.legacyAssociations = legacyAssociations;
+        return employment;
     }
 
     /**
@@ -62,33 +126,101 @@ public class Employment {
      * @param job Job.
      * @param person Person.
      */
-    // TODO: There is an issue where if a person gets edited/deleted, the
-    // association would not update. Also currently does not handle serdes.
     public void associate(Job job, Person person) {
         requireAllNonNull(job, person);
+        associate(job.getJobId(), person.getPersonId());
+    }
+
+    /**
+     * Adds an association of the {@code Job} with {@code jobId} with the {@code Person} with {@code personId}.
+     * Any existing association of the {@code Job} is replaced.
+     *
+     * @param jobId JobId.
+     * @param personId PersonId.
+     */
+    public void associate(ID jobId, ID personId) {
+        requireAllNonNull(jobId, personId);
         // The nature of put assigns 1 job to 1 person
-        map.put(job.getJobId(), person.getName());
+        ID oldPersonId = map.put(jobId, personId);
+        if (personId.equals(oldPersonId)) {
+            return;
+        }
+        if (oldPersonId != null) {
+            unindexJob(jobId, oldPersonId);
+        }
+        indexJob(jobId, personId);
+        fireAssociationChanged(jobId, oldPersonId, personId);
     }
 
     /**
-     * Deletes all entries of a {@code Person}.
+     * Removes the association of the {@code Job} with {@code jobId}, if any.
      *
-     * @param person {@code Person} to delete.
+     * @param jobId JobId.
      */
-    public void deletePerson(Person person) {
-        requireAllNonNull(person);
-        map.entrySet().removeIf(entry -> entry.getValue().equals(person.getName()));
+    public void dissociate(ID jobId) {
+        requireAllNonNull(jobId);
+        ID personId = map.remove(jobId);
+        if (personId == null) {
+            return;
+        }
+        unindexJob(jobId, personId);
+        fireAssociationChanged(jobId, personId, null);
+    }
+
+    /**
+     * Resolves the associations read from an older data file to the {@code PersonIds} of {@code persons}.
+     * An association with a name that does not belong to any person is dropped.
+     *
+     * @param persons Persons in the address book.
+     */
+    public void resolveLegacyAssociations(List<Person> persons) {
+        requireAllNonNull(persons);
+        if (legacyAssociations.isEmpty()) {
+            return;
+        }
+
+        HashMap<Name, ID> personIdsByName = new HashMap<>();
+        persons.forEach(person -> personIdsByName.putIfAbsent(person.getName(), person.getPersonId()));
+        legacyAssociations.forEach((jobId, name) -> {
+            ID personId = personIdsByName.get(name);
+            if (personId != null) {
+                associate(jobId, personId);
+            }
+        });
+        legacyAssociations = new HashMap<>();
+    }
+
+    /**
+     * Removes the associations of jobs for which {@code hasJob} is false, or with persons for which
+     * {@code hasPerson} is false, such as those left in a data file that was edited by hand.
+     *
+     * @param hasJob Whether the {@code Job} with a {@code JobId} exists.
+     * @param hasPerson Whether the {@code Person} with a {@code PersonId} exists.
+     */
+    public void dropDanglingAssociations(Predicate<ID> hasJob, Predicate<ID> hasPerson) {
+        requireAllNonNull(hasJob, hasPerson);
+        List<ID> danglingJobIds = map.entrySet().stream()
+                .filter(entry -> !hasJob.test(entry.getKey()) || !hasPerson.test(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        danglingJobIds.forEach(this::dissociate);
     }
 
     /**
-     * Edits all entries of a {@code Person}.
+     * Deletes all entries of a {@code Person}.
      *
-     * @param toEdit {@code Person} to edit.
-     * @param editedPerson {@code Person} that replaces.
+     * @param person {@code Person} to delete.
      */
-    public void editPerson(Person toEdit, Person editedPerson) {
-        requireAllNonNull(toEdit, editedPerson);
-        map.replaceAll((jobId, name) -> name.equals(toEdit.getName()) ? editedPerson.getName() : name);
+    public void deletePerson(Person person) {
+        requireAllNonNull(person);
+        Set<ID> jobIds = jobIdsByPersonId.remove(person.getPersonId());
+        if (jobIds == null) {
+            return;
+        }
+        for (ID jobId : jobIds) {
+            map.remove(jobId);
+            fireAssociationChanged(jobId, person.getPersonId(), null);
+        }
     }
 
     /**
@@ -98,7 +230,19 @@ public class Employment {
      */
     public void deleteJob(Job job) {
         requireAllNonNull(job);
-        map.remove(job.getJobId());
+        dissociate(job.getJobId());
+    }
+
+    /**
+     * Returns the {@code JobIds} of the {@code Jobs} that a {@code Person} has.
+     *
+     * @param person Person.
+     * @return Unmodifiable set of job ids, in the order they were assigned.
+     */
+    public Set<ID> getJobIds(Person person) {
+        requireAllNonNull(person);
+        return Collections.unmodifiableSet(
+                jobIdsByPersonId.getOrDefault(person.getPersonId(), Collections.emptySet()));
     }
 
     /**
@@ -110,18 +254,71 @@ public class Employment {
      */
     public List<Job> getJobs(Person person, Model model) {
         requireAllNonNull(person, model);
-        // TODO: Scuffed but workable, change if needed.
-        model.updateFilteredJobList(job -> person.getName().equals(map.get(job.getJobId())));
-        return model.getFilteredJobList();
+        return getJobIds(person).stream()
+                .map(model::getJob)
+                .collect(Collectors.toList());
     }
 
     /**
-     * Returns a list of {@code Jobs} that a {@code Person} has.
+     * Returns the associations of all {@code Jobs}.
      *
-     * @return Map of jobs.
+     * @return Unmodifiable map of {@code JobId} to {@code PersonId}.
      */
-    public HashMap<ID, Name> getAllJobs() {
-        return map;
+    public Map<ID, ID> getAllJobs() {
+        return Collections.unmodifiableMap(map);
+    }
+
+    private void indexJob(ID jobId, ID personId) {
+        jobIdsByPersonId.computeIfAbsent(personId, k -> new LinkedHashSet<>()).add(jobId);
+    }
+
+    private void unindexJob(ID jobId, ID personId) {
+        Set<ID> jobIds = jobIdsByPersonId.get(personId);
+        jobIds.remove(jobId);
+        if (jobIds.isEmpty()) {
+            jobIdsByPersonId.remove(personId);
+        }
+    }
+
+    private void fireAssociationChanged(ID jobId, ID oldPersonId, ID newPersonId) {
+        if (this != instance) {
+            return;
+        }
+        for (Listener listener : getListeners()) {
+            listener.onAssociationChanged(jobId, oldPersonId, newPersonId);
+        }
+    }
+
+    private static void fireInstanceReplaced() {
+        for (Listener listener : getListeners()) {
+            listener.onInstanceReplaced();
+        }
+    }
+
+    /**
+     * Returns the listeners that are still alive, and forgets the rest.
+     */
+    private static List<Listener> getListeners() {
+        List<Listener> alive = new ArrayList<>();
+        listeners.removeIf(ref -> {
+            Listener listener = ref.get();
+            if (listener != null) {
+                alive.add(listener);
+            }
+            return listener == null;
+        });
+        return alive;
+    }
+
+    /**
+     * Registers {@code listener} to be notified of changes to the singleton instance, including any instance that
+     * replaces it. The listener is only held weakly, so the caller must keep a reference to it.
+     *
+     * @param listener Listener to add.
+     */
+    public static void addListener(Listener listener) {
+        requireAllNonNull(listener);
+        listeners.add(new WeakReference<>(listener));
     }
 
     /**
@@ -131,6 +328,7 @@ public class Employment {
      */
     public static void setInstance(Employment employment) {
         instance = employment;
+        fireInstanceReplaced();
     }
 
     /**
@@ -139,6 +337,7 @@ public class Employment {
      */
     public static void newInstance() {
         instance = new Employment();
+        fireInstanceReplaced();
     }
 
     /**
@@ -164,12 +363,20 @@ public class Employment {
 
         @Override
         public void serialize(Employment value, JsonGenerator gen, SerializerProvider provider) throws IOException {
-            gen.writeObject(value.map);
+            gen.writeStartObject();
+            gen.writeObjectField(ASSIGNMENTS_KEY, value.map);
+            gen.writeEndObject();
         }
     }
 
+    /**
+     * Reads an {@code Employment}, which is either saved as <code>{"assignments": {jobId: personId}}</code>, or as
+     * <code>{jobId: name}</code> by older versions. The two are told apart by whether the values are objects or
+     * strings, which does not depend on what the keys look like.
+     */
     protected static class EmploymentDeserializer extends StdDeserializer<Employment> {
         private static final String MISSING_OR_INVALID_INSTANCE = "Invalid employment!";
+        private static final TypeReference<HashMap<ID, ID>> ASSIGNMENTS_TYPE = new TypeReference<HashMap<ID, ID>>() {};
 
         private EmploymentDeserializer(Class<?> vc) {
             super(vc);
@@ -182,19 +389,29 @@ public class Employment {
         @Override
         public Employment deserialize(JsonParser p, DeserializationContext ctx)
                 throws IOException, JsonProcessingException {
-            JsonNode node = p.readValueAsTree();
-            ObjectCodec codec = p.getCodec();
+            JsonUtil.requireCurrentToken(p, JsonToken.START_OBJECT, ctx, MISSING_OR_INVALID_INSTANCE);
 
-            if (!(node instanceof ObjectNode)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
+            HashMap<ID, ID> assignments = null;
+            HashMap<ID, Name> legacyAssociations = new HashMap<>();
+
+            for (String key = p.nextFieldName(); key != null; key = p.nextFieldName()) {
+                JsonToken token = p.nextToken();
+                if (token == JsonToken.START_OBJECT && key.equals(ASSIGNMENTS_KEY)) {
+                    assignments = JsonUtil.readValue(p, ctx, ASSIGNMENTS_TYPE);
+                } else if (token == JsonToken.VALUE_STRING && ID.isValidId(key)) {
+                    legacyAssociations.put(ID.of(key), JsonUtil.readValue(p, ctx, Name.class));
+                } else {
+                    throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
+                }
             }
 
-            // readValueAs Map is ok because we know `node` has to be a json object
-            HashMap<ID, Name> map = node
-                .traverse(codec)
-                .readValueAs(new TypeReference<HashMap<ID, Name>>(){});
+            if (assignments != null && !legacyAssociations.isEmpty()) {
+                throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
+            }
 
-            return new Employment(map);
+            return assignments != null
+                    ? new Employment(assignments)
+                    : Employment.fromLegacyAssociations(legacyAssociations);
         }
 
         @Override
@@ -4,29 +4,32 @@ import static java.util.Objects.requireNonNull;
 import static peoplesoft.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.util.regex.Pattern;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.TextNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
+import peoplesoft.commons.util.Interner;
 import peoplesoft.commons.util.JsonUtil;
 
 /**
  * Represents an ID for some sort of entity, e.g. a {@code Person} or {@code Job}.
  * Guarantees: immutable; is valid as declared in {@link #isValidId(String)}
+ *
+ * Ids that are non-negative integers, such as generated ones, are kept as an {@code int}, so that comparing and
+ * hashing them does not involve strings. Other ids are kept as a {@code String}.
  */
 @JsonSerialize(using = ID.IdSerializer.class)
 @JsonDeserialize(using = ID.IdDeserializer.class)
-public class ID {
+public class ID implements Comparable<ID> {
     public static final String MESSAGE_CONSTRAINTS =
             "IDs should only begin and end with alphanumeric characters, "
             + "contain alphanumeric characters and hyphens, "
@@ -37,8 +40,15 @@ public class ID {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}]([\\p{Alnum}-]*[\\p{Alnum}])?";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
-    public final String value;
+    private static final Interner<ID> POOL = new Interner<>();
+    private static final int NOT_NUMERIC = -1;
+
+    /** The id, if it is a non-negative integer. Otherwise {@code NOT_NUMERIC}. */
+    private final int intValue;
+    /** The id, if it is not a non-negative integer. Otherwise null. */
+    private final String stringValue;
 
     /**
      * Constructs a {@code ID}.
@@ -47,43 +57,114 @@ public class ID {
      */
     public ID(String value) {
         requireNonNull(value);
-        checkArgument(isValidId(value), MESSAGE_CONSTRAINTS);
-        this.value = value;
+        int parsed = parseNumericId(value);
+        if (parsed == NOT_NUMERIC) {
+            checkArgument(isValidId(value), MESSAGE_CONSTRAINTS);
+        }
+        this.intValue = parsed;
+        this.stringValue = parsed == NOT_NUMERIC ? value : null;
     }
 
     /**
      * Constructs a {@code ID}.
      *
-     * @param value A valid id.
+     * @param value A valid id, which must not be negative.
      */
     public ID(int value) {
-        String strValue = String.valueOf(value);
-        checkArgument(isValidId(strValue), MESSAGE_CONSTRAINTS);
-        this.value = strValue;
+        checkArgument(value >= 0, MESSAGE_CONSTRAINTS);
+        this.intValue = value;
+        this.stringValue = null;
+    }
+
+    /**
+     * Returns an {@code ID} with {@code value}, which is shared with other references to the same id.
+     *
+     * @param value A valid id.
+     */
+    public static ID of(String value) {
+        return POOL.intern(new ID(value));
     }
 
     /**
      * Returns true if a given string is a valid id.
      */
     public static boolean isValidId(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns the value of {@code test} if it is a non-negative integer written without leading zeros, which is
+     * how {@link #toString()} writes it back. Otherwise, returns {@code NOT_NUMERIC}.
+     */
+    private static int parseNumericId(String test) {
+        int length = test.length();
+        if (length == 0 || length > 10 || (test.charAt(0) == '0' && length > 1)) {
+            return NOT_NUMERIC;
+        }
+
+        long result = 0;
+        for (int i = 0; i < length; i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_NUMERIC;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result <= Integer.MAX_VALUE ? (int) result : NOT_NUMERIC;
+    }
+
+    /**
+     * Returns true if this id is a non-negative integer, which {@link #getNumericValue()} returns.
+     */
+    public boolean isNumeric() {
+        return stringValue == null;
+    }
+
+    /**
+     * Returns the value of this id, which must be numeric.
+     */
+    public int getNumericValue() {
+        assert isNumeric();
+        return intValue;
     }
 
     @Override
     public String toString() {
-        return value;
+        return stringValue == null ? Integer.toString(intValue) : stringValue;
+    }
+
+    /**
+     * Compares numeric ids by value, before all other ids, which are compared as strings.
+     */
+    @Override
+    public int compareTo(ID other) {
+        requireNonNull(other);
+        if (stringValue == null) {
+            return other.stringValue == null ? Integer.compare(intValue, other.intValue) : -1;
+        }
+        return other.stringValue == null ? 1 : stringValue.compareTo(other.stringValue);
     }
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof ID // instanceof handles nulls
-                && value.equals(((ID) other).value)); // state check
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+
+        if (!(other instanceof ID)) { // instanceof handles nulls
+            return false;
+        }
+
+        // Numeric ids are never kept as a string, so the representations are comparable
+        ID otherId = (ID) other;
+        return stringValue == null
+                ? otherId.stringValue == null && intValue == otherId.intValue
+                : stringValue.equals(otherId.stringValue);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return stringValue == null ? intValue : stringValue.hashCode();
     }
 
     protected static class IdSerializer extends StdSerializer<ID> {
@@ -97,7 +178,7 @@ public class ID {
 
         @Override
         public void serialize(ID val, JsonGenerator gen, SerializerProvider provider) throws IOException {
-            gen.writeString(val.value);
+            gen.writeString(val.toString());
         }
     }
 
@@ -115,18 +196,12 @@ public class ID {
         @Override
         public ID deserialize(JsonParser p, DeserializationContext ctx)
                 throws IOException, JsonProcessingException {
-            JsonNode node = p.readValueAsTree();
-
-            if (!(node instanceof TextNode)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
-            }
-
-            String value = ((TextNode) node).textValue();
-            if (!ID.isValidId(value)) {
-                throw JsonUtil.getWrappedIllegalValueException(ctx, ID.MESSAGE_CONSTRAINTS);
+            String value = JsonUtil.getTextValue(p, ctx, MISSING_OR_INVALID_INSTANCE);
+            try {
+                return ID.of(value);
+            } catch (IllegalArgumentException e) {
+                throw JsonUtil.getWrappedIllegalValueException(ctx, ID.MESSAGE_CONSTRAINTS, e);
             }
-
-            return new ID(value);
         }
 
         @Override
@@ -0,0 +1,362 @@
+package peoplesoft.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of an {@code ObservableList} in the order of a comparator, like {@code SortedList}, or in the order of the
+ * source list if there is no comparator.
+ *
+ * The sorted elements are kept in a treap, a balanced binary search tree, in which each node also knows the size of
+ * its subtree, so that the position of an element is found in O(log N) time. Adding, removing or replacing an
+ * element of the source takes O(log N) time, where {@code SortedList} shifts an array in O(N) time. Changes to
+ * most of the source, such as a new predicate of a {@code FilteredList}, sort the whole list again.
+ *
+ * The elements of the source must be distinct objects, which are found in the tree by identity, so that the
+ * comparator is only used to place new elements.
+ *
+ * @param <E> type of the elements
+ */
+public class IndexedSortedList<E> extends TransformationList<E, E> {
+    private final Random random = new Random();
+    private final Map<E, Node<E>> nodes = new IdentityHashMap<>();
+    private Node<E> root;
+    private Comparator<? super E> comparator;
+
+    /**
+     * Creates a view of {@code source} in the order it is in.
+     */
+    public IndexedSortedList(ObservableList<? extends E> source) {
+        super(source);
+    }
+
+    public Comparator<? super E> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Sorts the list by {@code comparator}, or in the order of the source if it is null.
+     */
+    public void setComparator(Comparator<? super E> comparator) {
+        if (comparator == this.comparator) {
+            return;
+        }
+        List<E> oldElements = new ArrayList<>(this);
+        this.comparator = comparator;
+        rebuild(oldElements);
+    }
+
+    /**
+     * Sorts the list again, for when the order of its elements has changed without the source changing.
+     */
+    public void refresh() {
+        if (comparator != null) {
+            rebuild(new ArrayList<>(this));
+        }
+    }
+
+    /**
+     * Moves {@code element} to its place in the list, for when its order has changed without the source changing.
+     * Does nothing if it is not in the list. The order of other elements must not have changed.
+     */
+    public void refresh(E element) {
+        requireNonNull(element);
+        Node<E> node = nodes.get(element);
+        if (node == null) {
+            return;
+        }
+        int oldIndex = indexOf(node);
+        delete(node);
+        int newIndex = insert(element);
+        if (oldIndex != newIndex) {
+            beginChange();
+            nextRemove(oldIndex, element);
+            nextAdd(newIndex, newIndex + 1);
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        if (comparator == null) {
+            return getSource().get(index);
+        }
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+        }
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return comparator == null ? getSource().size() : sizeOf(root);
+    }
+
+    /**
+     * {@inheritDoc}
+     * When the list is sorted, this searches the source, which takes O(N) time.
+     */
+    @Override
+    public int getSourceIndex(int index) {
+        return comparator == null ? index : getSource().indexOf(get(index));
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (comparator == null) {
+            return index;
+        }
+        Node<E> node = nodes.get(getSource().get(index));
+        return node == null ? -1 : indexOf(node);
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> change) {
+        if (comparator == null) {
+            forward(change);
+            return;
+        }
+
+        int changedCount = 0;
+        while (change.next()) {
+            changedCount += change.getRemovedSize() + change.getAddedSize();
+        }
+        change.reset();
+        // Sorting again is no slower than placing most elements one at a time, and makes a single change
+        if (changedCount > sizeOf(root)) {
+            List<E> oldElements = new ArrayList<>(this);
+            rebuild(oldElements);
+            return;
+        }
+
+        beginChange();
+        while (change.next()) {
+            // Permutations of the source do not change the sorted order
+            if (change.wasPermutated()) {
+                continue;
+            }
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    E element = getSource().get(i);
+                    Node<E> node = nodes.get(element);
+                    int index = indexOf(node);
+                    delete(node);
+                    nextRemove(index, element);
+                    int newIndex = insert(element);
+                    nextAdd(newIndex, newIndex + 1);
+                }
+                continue;
+            }
+            for (E removed : change.getRemoved()) {
+                Node<E> node = nodes.get(removed);
+                int index = indexOf(node);
+                delete(node);
+                nextRemove(index, removed);
+            }
+            for (E added : change.getAddedSubList()) {
+                int index = insert(added);
+                nextAdd(index, index + 1);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Passes on {@code change} as it is, while the list is in the order of the source.
+     */
+    private void forward(Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else if (change.wasReplaced()) {
+                nextReplace(change.getFrom(), change.getTo(), new ArrayList<>(change.getRemoved()));
+            } else if (change.wasRemoved()) {
+                nextRemove(change.getFrom(), new ArrayList<>(change.getRemoved()));
+            } else {
+                nextAdd(change.getFrom(), change.getTo());
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Places the elements of the source in the tree again, and reports that {@code oldElements} were replaced.
+     */
+    private void rebuild(List<E> oldElements) {
+        root = null;
+        nodes.clear();
+        if (comparator != null) {
+            for (E element : getSource()) {
+                insert(element);
+            }
+        }
+
+        beginChange();
+        if (!oldElements.isEmpty()) {
+            nextRemove(0, oldElements);
+        }
+        if (size() > 0) {
+            nextAdd(0, size());
+        }
+        endChange();
+    }
+
+    /**
+     * Adds {@code value} to the tree after the elements that are not greater than it, and returns its position.
+     */
+    private int insert(E value) {
+        Node<E> node = new Node<>(value, random.nextInt());
+        assert !nodes.containsKey(value) : "Elements must be distinct objects";
+        nodes.put(value, node);
+        if (root == null) {
+            root = node;
+            return 0;
+        }
+
+        Node<E> parent = root;
+        int index = 0;
+        while (true) {
+            parent.size++;
+            if (comparator.compare(value, parent.value) < 0) {
+                if (parent.left == null) {
+                    parent.left = node;
+                    break;
+                }
+                parent = parent.left;
+            } else {
+                index += sizeOf(parent.left) + 1;
+                if (parent.right == null) {
+                    parent.right = node;
+                    break;
+                }
+                parent = parent.right;
+            }
+        }
+        node.parent = parent;
+
+        // Rotations keep the order of the elements, so the position found above stays the same
+        while (node.parent != null && node.priority > node.parent.priority) {
+            rotateUp(node);
+        }
+        return index;
+    }
+
+    /**
+     * Removes {@code node} from the tree.
+     */
+    private void delete(Node<E> node) {
+        nodes.remove(node.value);
+        while (node.left != null && node.right != null) {
+            rotateUp(node.left.priority > node.right.priority ? node.left : node.right);
+        }
+
+        Node<E> child = node.left != null ? node.left : node.right;
+        Node<E> parent = node.parent;
+        if (child != null) {
+            child.parent = parent;
+        }
+        if (parent == null) {
+            root = child;
+        } else if (parent.left == node) {
+            parent.left = child;
+        } else {
+            parent.right = child;
+        }
+        for (Node<E> ancestor = parent; ancestor != null; ancestor = ancestor.parent) {
+            ancestor.size--;
+        }
+    }
+
+    /**
+     * Returns the position of {@code node} in the list.
+     */
+    private int indexOf(Node<E> node) {
+        int index = sizeOf(node.left);
+        for (; node.parent != null; node = node.parent) {
+            if (node == node.parent.right) {
+                index += sizeOf(node.parent.left) + 1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Makes {@code node} the parent of its parent, keeping the order of the elements.
+     */
+    private void rotateUp(Node<E> node) {
+        Node<E> parent = node.parent;
+        Node<E> grandparent = parent.parent;
+        if (node == parent.left) {
+            parent.left = node.right;
+            if (node.right != null) {
+                node.right.parent = parent;
+            }
+            node.right = parent;
+        } else {
+            parent.right = node.left;
+            if (node.left != null) {
+                node.left.parent = parent;
+            }
+            node.left = parent;
+        }
+        parent.parent = node;
+        node.parent = grandparent;
+        if (grandparent == null) {
+            root = node;
+        } else if (grandparent.left == parent) {
+            grandparent.left = node;
+        } else {
+            grandparent.right = node;
+        }
+        node.size = parent.size;
+        parent.size = sizeOf(parent.left) + sizeOf(parent.right) + 1;
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static class Node<E> {
+        private final E value;
+        private final int priority;
+        private Node<E> left;
+        private Node<E> right;
+        private Node<E> parent;
+        private int size = 1;
+
+        Node(E value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package peoplesoft.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import peoplesoft.commons.core.JobIdFactory;
+import peoplesoft.commons.core.PersonIdFactory;
+import peoplesoft.commons.util.JsonUtil;
+import peoplesoft.model.AddressBook;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.person.Person;
+import peoplesoft.model.util.Employment;
+import peoplesoft.model.util.ID;
+
+/**
+ * A single change to the saved address book, as recorded by {@code JsonDeltaAddressBookStorage}.
+ * Every change sets or removes the value for a key, so applying a change that is already reflected in the address
+ * book does nothing.
+ */
+@JsonSerialize(using = AddressBookDelta.AddressBookDeltaSerializer.class)
+@JsonDeserialize(using = AddressBookDelta.AddressBookDeltaDeserializer.class)
+public class AddressBookDelta {
+
+    /**
+     * The kinds of changes that can be recorded.
+     */
+    public enum Type {
+        PUT_PERSON, REMOVE_PERSON, PUT_JOB, REMOVE_JOB, ASSOCIATE, DISSOCIATE, SET_ID_STATE
+    }
+
+    private final Type type;
+    private final Person person;
+    private final Job job;
+    private final ID id;
+    private final ID personId;
+    private final int jobIdState;
+    private final int personIdState;
+
+    private AddressBookDelta(Type type, Person person, Job job, ID id, ID personId, int jobIdState,
+            int personIdState) {
+        this.type = type;
+        this.person = person;
+        this.job = job;
+        this.id = id;
+        this.personId = personId;
+        this.jobIdState = jobIdState;
+        this.personIdState = personIdState;
+    }
+
+    /**
+     * Returns a change that adds {@code person}, or replaces the person with the same id.
+     */
+    public static AddressBookDelta putPerson(Person person) {
+        requireNonNull(person);
+        return new AddressBookDelta(Type.PUT_PERSON, person, null, null, null, 0, 0);
+    }
+
+    /**
+     * Returns a change that removes the person with id {@code personId}.
+     */
+    public static AddressBookDelta removePerson(ID personId) {
+        requireNonNull(personId);
+        return new AddressBookDelta(Type.REMOVE_PERSON, null, null, personId, null, 0, 0);
+    }
+
+    /**
+     * Returns a change that adds {@code job}, or replaces the job with the same id.
+     */
+    public static AddressBookDelta putJob(Job job) {
+        requireNonNull(job);
+        return new AddressBookDelta(Type.PUT_JOB, null, job, null, null, 0, 0);
+    }
+
+    /**
+     * Returns a change that removes the job with id {@code jobId}.
+     */
+    public static AddressBookDelta removeJob(ID jobId) {
+        requireNonNull(jobId);
+        return new AddressBookDelta(Type.REMOVE_JOB, null, null, jobId, null, 0, 0);
+    }
+
+    /**
+     * Returns a change that assigns the job with id {@code jobId} to the person with id {@code personId}.
+     */
+    public static AddressBookDelta associate(ID jobId, ID personId) {
+        requireNonNull(jobId);
+        requireNonNull(personId);
+        return new AddressBookDelta(Type.ASSOCIATE, null, null, jobId, personId, 0, 0);
+    }
+
+    /**
+     * Returns a change that unassigns the job with id {@code jobId}.
+     */
+    public static AddressBookDelta dissociate(ID jobId) {
+        requireNonNull(jobId);
+        return new AddressBookDelta(Type.DISSOCIATE, null, null, jobId, null, 0, 0);
+    }
+
+    /**
+     * Returns a change that sets the states of the {@code JobIdFactory} and {@code PersonIdFactory}.
+     */
+    public static AddressBookDelta setIdState(int jobIdState, int personIdState) {
+        return new AddressBookDelta(Type.SET_ID_STATE, null, null, null, null, jobIdState, personIdState);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Applies this change to {@code addressBook}, and to the {@code Employment} instance and id factories.
+     */
+    public void applyTo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        switch (type) {
+        case PUT_PERSON:
+            if (addressBook.hasPerson(person.getPersonId())) {
+                addressBook.setPerson(addressBook.getPerson(person.getPersonId()), person);
+            } else {
+                addressBook.addPerson(person);
+            }
+            break;
+        case REMOVE_PERSON:
+            if (addressBook.hasPerson(id)) {
+                addressBook.removePerson(addressBook.getPerson(id));
+            }
+            break;
+        case PUT_JOB:
+            if (addressBook.hasJob(job.getJobId())) {
+                addressBook.setJob(addressBook.getJob(job.getJobId()), job);
+            } else {
+                addressBook.addJob(job);
+            }
+            break;
+        case REMOVE_JOB:
+            if (addressBook.hasJob(id)) {
+                addressBook.removeJob(addressBook.getJob(id));
+            }
+            break;
+        case ASSOCIATE:
+            Employment.getInstance().associate(id, personId);
+            break;
+        case DISSOCIATE:
+            Employment.getInstance().dissociate(id);
+            break;
+        case SET_ID_STATE:
+            // Ids are never handed out again, even if an older change is applied to newer data
+            JobIdFactory.setId(Math.max(JobIdFactory.getId(), jobIdState));
+            PersonIdFactory.setId(Math.max(PersonIdFactory.getId(), personIdState));
+            break;
+        default:
+            assert false : "Unknown delta type " + type;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AddressBookDelta)) {
+            return false;
+        }
+
+        AddressBookDelta otherDelta = (AddressBookDelta) other;
+        return type == otherDelta.type
+                && Objects.equals(person, otherDelta.person)
+                && Objects.equals(job, otherDelta.job)
+                && Objects.equals(id, otherDelta.id)
+                && Objects.equals(personId, otherDelta.personId)
+                && jobIdState == otherDelta.jobIdState
+                && personIdState == otherDelta.personIdState;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, person, job, id, personId, jobIdState, personIdState);
+    }
+
+    @Override
+    public String toString() {
+        return type + (person != null ? " " + person.getPersonId() : "")
+                + (job != null ? " " + job.getJobId() : "")
+                + (id != null ? " " + id : "");
+    }
+
+    protected static class AddressBookDeltaSerializer extends StdSerializer<AddressBookDelta> {
+        private AddressBookDeltaSerializer(Class<AddressBookDelta> val) {
+            super(val);
+        }
+
+        private AddressBookDeltaSerializer() {
+            this(null);
+        }
+
+        @Override
+        public void serialize(AddressBookDelta val, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject();
+
+            gen.writeStringField("type", val.type.name());
+            switch (val.type) {
+            case PUT_PERSON:
+                gen.writeObjectField("person", val.person);
+                break;
+            case PUT_JOB:
+                gen.writeObjectField("job", val.job);
+                break;
+            case ASSOCIATE:
+                gen.writeObjectField("id", val.id);
+                gen.writeObjectField("personId", val.personId);
+                break;
+            case REMOVE_PERSON:
+            case REMOVE_JOB:
+            case DISSOCIATE:
+                gen.writeObjectField("id", val.id);
+                break;
+            case SET_ID_STATE:
+                gen.writeNumberField("jobIdState", val.jobIdState);
+                gen.writeNumberField("personIdState", val.personIdState);
+                break;
+            default:
+                assert false : "Unknown delta type " + val.type;
+            }
+
+            gen.writeEndObject();
+        }
+    }
+
+    protected static class AddressBookDeltaDeserializer extends StdDeserializer<AddressBookDelta> {
+        private static final String MISSING_OR_INVALID_INSTANCE = "The address book change is invalid or missing!";
+        private static final UnaryOperator<String> INVALID_VAL_FMTR =
+            k -> String.format("This address book change's %s value is invalid!", k);
+
+        private AddressBookDeltaDeserializer(Class<?> vc) {
+            super(vc);
+        }
+
+        private AddressBookDeltaDeserializer() {
+            this(null);
+        }
+
+        @Override
+        public AddressBookDelta deserialize(JsonParser p, DeserializationContext ctx)
+                throws IOException, JsonProcessingException {
+            JsonUtil.requireCurrentToken(p, JsonToken.START_OBJECT, ctx, MISSING_OR_INVALID_INSTANCE);
+
+            String typeName = null;
+            Person person = null;
+            Job job = null;
+            ID id = null;
+            ID personId = null;
+            Integer jobIdState = null;
+            Integer personIdState = null;
+
+            for (String key = p.nextFieldName(); key != null; key = p.nextFieldName()) {
+                p.nextToken();
+                switch (key) {
+                case "type":
+                    typeName = JsonUtil.getTextValue(p, ctx, INVALID_VAL_FMTR.apply(key));
+                    break;
+                case "person":
+                    person = JsonUtil.readValue(p, ctx, Person.class);
+                    break;
+                case "job":
+                    job = JsonUtil.readValue(p, ctx, Job.class);
+                    break;
+                case "id":
+                    id = JsonUtil.readValue(p, ctx, ID.class);
+                    break;
+                case "personId":
+                    personId = JsonUtil.readValue(p, ctx, ID.class);
+                    break;
+                case "jobIdState":
+                    jobIdState = JsonUtil.getIntValue(p, ctx, INVALID_VAL_FMTR.apply(key));
+                    break;
+                case "personIdState":
+                    personIdState = JsonUtil.getIntValue(p, ctx, INVALID_VAL_FMTR.apply(key));
+                    break;
+                default:
+                    p.skipChildren();
+                }
+            }
+
+            Type type;
+            try {
+                type = Type.valueOf(JsonUtil.requireField(typeName, "type", ctx, INVALID_VAL_FMTR));
+            } catch (IllegalArgumentException e) {
+                throw JsonUtil.getWrappedIllegalValueException(ctx, INVALID_VAL_FMTR.apply("type"));
+            }
+
+            switch (type) {
+            case PUT_PERSON:
+                return putPerson(JsonUtil.requireField(person, "person", ctx, INVALID_VAL_FMTR));
+            case REMOVE_PERSON:
+                return removePerson(JsonUtil.requireField(id, "id", ctx, INVALID_VAL_FMTR));
+            case PUT_JOB:
+                return putJob(JsonUtil.requireField(job, "job", ctx, INVALID_VAL_FMTR));
+            case REMOVE_JOB:
+                return removeJob(JsonUtil.requireField(id, "id", ctx, INVALID_VAL_FMTR));
+            case ASSOCIATE:
+                return associate(JsonUtil.requireField(id, "id", ctx, INVALID_VAL_FMTR),
+                        JsonUtil.requireField(personId, "personId", ctx, INVALID_VAL_FMTR));
+            case DISSOCIATE:
+                return dissociate(JsonUtil.requireField(id, "id", ctx, INVALID_VAL_FMTR));
+            case SET_ID_STATE:
+                int validJobIdState = JsonUtil.requireField(jobIdState, "jobIdState", ctx, INVALID_VAL_FMTR);
+                int validPersonIdState = JsonUtil.requireField(
+                        personIdState, "personIdState", ctx, INVALID_VAL_FMTR);
+                if (validJobIdState < 0 || validPersonIdState < 0) {
+                    throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
+                }
+                return setIdState(validJobIdState, validPersonIdState);
+            default:
+                throw JsonUtil.getWrappedIllegalValueException(ctx, INVALID_VAL_FMTR.apply("type"));
+            }
+        }
+
+        @Override
+        public AddressBookDelta getNullValue(DeserializationContext ctx) throws JsonMappingException {
+            throw JsonUtil.getWrappedIllegalValueException(ctx, MISSING_OR_INVALID_INSTANCE);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package peoplesoft.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import peoplesoft.commons.util.FileUtil;
+
+/**
+ * An append-only journal of the commands executed since the address book was last saved.
+ * Each entry is flushed to the disk as it is appended, so that the commands can be replayed on top of the last
+ * saved address book after a crash.
+ *
+ * The first line of the journal identifies the saved address book that its commands apply to, so that a journal
+ * which was not reset before a crash is not replayed on top of a newer address book which already includes it.
+ */
+public class CommandJournal {
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final char ENTRY_SEPARATOR = '\n';
+    private static final String MISSING_DATA_FILE_ID = "none";
+    private static final String FILE_VERSION_SEPARATOR = "/";
+
+    private final Path filePath;
+
+    /**
+     * Creates a {@code CommandJournal} stored at {@code filePath}.
+     */
+    public CommandJournal(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns a {@code CommandJournal} stored next to the address book data file at {@code dataFilePath}.
+     */
+    public static CommandJournal forDataFile(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        return new CommandJournal(dataFilePath.resolveSibling(dataFilePath.getFileName() + JOURNAL_FILE_SUFFIX));
+    }
+
+    public Path getJournalFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns a string that identifies the version of the data file at {@code dataFilePath}, including any changes
+     * recorded next to it by {@link JsonDeltaAddressBookStorage}.
+     * Only the attributes of the files are read, so this takes the same time however large they are. Every save
+     * either replaces a file, which gives it a new file key and modification time, or appends to it, which changes
+     * its size.
+     *
+     * @throws IOException if there was an error reading the attributes of the files
+     */
+    public static String getDataFileId(Path dataFilePath) throws IOException {
+        requireNonNull(dataFilePath);
+        Path deltaFilePath = JsonDeltaAddressBookStorage.getDeltaFilePath(dataFilePath);
+        if (!FileUtil.isFileExists(dataFilePath) && !FileUtil.isFileExists(deltaFilePath)) {
+            return MISSING_DATA_FILE_ID;
+        }
+        return getFileVersion(dataFilePath) + FILE_VERSION_SEPARATOR + getFileVersion(deltaFilePath);
+    }
+
+    private static String getFileVersion(Path file) throws IOException {
+        if (!FileUtil.isFileExists(file)) {
+            return MISSING_DATA_FILE_ID;
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return String.format("%d:%d:%s", attributes.size(), attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS),
+                attributes.fileKey());
+    }
+
+    /**
+     * Appends {@code commandText} to the journal and flushes it to the disk.
+     *
+     * @throws IOException if there was an error writing to the file
+     */
+    public void append(String commandText) throws IOException {
+        requireNonNull(commandText);
+        assert commandText.indexOf(ENTRY_SEPARATOR) == -1 : "Journal entries cannot span multiple lines";
+
+        FileUtil.appendToFile(filePath, commandText + ENTRY_SEPARATOR);
+    }
+
+    /**
+     * Returns the entries in the journal, oldest first, if the journal applies to the data file identified by
+     * {@code dataFileId}. Otherwise, returns an empty list.
+     * An entry that was only partially written, e.g. because of a crash, is dropped.
+     *
+     * @throws IOException if there was an error reading from the file
+     */
+    public List<String> readEntries(String dataFileId) throws IOException {
+        requireNonNull(dataFileId);
+        if (!FileUtil.isFileExists(filePath)) {
+            return new ArrayList<>();
+        }
+
+        String contents = FileUtil.readFromFile(filePath);
+        int end = contents.lastIndexOf(ENTRY_SEPARATOR);
+        if (end == -1) {
+            return new ArrayList<>();
+        }
+
+        List<String> lines = new ArrayList<>(Arrays.asList(
+                contents.substring(0, end).split(String.valueOf(ENTRY_SEPARATOR), -1)));
+        if (!lines.remove(0).equals(dataFileId)) {
+            return new ArrayList<>();
+        }
+        return lines;
+    }
+
+    /**
+     * Atomically replaces the contents of the journal with {@code entries}, which apply to the data file identified
+     * by {@code dataFileId}.
+     * This is done after the address book is saved, as the commands in the journal no longer need to be replayed.
+     *
+     * @throws IOException if there was an error writing to the file
+     */
+    public void reset(String dataFileId, List<String> entries) throws IOException {
+        requireNonNull(dataFileId);
+        requireNonNull(entries);
+
+        StringBuilder contents = new StringBuilder(dataFileId).append(ENTRY_SEPARATOR);
+        for (String entry : entries) {
+            assert entry.indexOf(ENTRY_SEPARATOR) == -1 : "Journal entries cannot span multiple lines";
+            contents.append(entry).append(ENTRY_SEPARATOR);
+        }
+        FileUtil.writeToFile(filePath, contents.toString());
+    }
+}
@@ -0,0 +1,325 @@
+package peoplesoft.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import peoplesoft.commons.core.JobIdFactory;
+import peoplesoft.commons.core.LogsCenter;
+import peoplesoft.commons.core.PersonIdFactory;
+import peoplesoft.commons.exceptions.DataConversionException;
+import peoplesoft.commons.util.FileUtil;
+import peoplesoft.commons.util.JsonUtil;
+import peoplesoft.model.AddressBook;
+import peoplesoft.model.ReadOnlyAddressBook;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.person.Person;
+import peoplesoft.model.util.Employment;
+import peoplesoft.model.util.ID;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file on the hard disk, together with a file of the
+ * changes made since the snapshot was written.
+ *
+ * Each save only appends the persons, jobs and assignments that changed since the last save, so that its cost on
+ * the disk is proportional to what changed. Once enough changes have been appended, they are compacted into a new
+ * snapshot.
+ */
+public class JsonDeltaAddressBookStorage implements AddressBookStorage {
+    public static final String DELTA_FILE_SUFFIX = ".delta";
+    /** Changes are only compacted once there are at least this many, or as many as there are persons and jobs. */
+    public static final int MIN_DELTAS_BEFORE_COMPACTION = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonDeltaAddressBookStorage.class);
+    private static final String DELTA_SEPARATOR = "\n";
+
+    private final Path filePath;
+    private final boolean isPrettyPrinted;
+
+    // The data as of the last time filePath was read or saved, or null if it has not been
+    private SavedState savedState;
+    private int deltaCount;
+    /** The length in bytes of the complete changes in the delta file, after which anything else is dropped. */
+    private long deltaFileLength;
+
+    public JsonDeltaAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonDeltaAddressBookStorage} that saves to {@code filePath}.
+     *
+     * @param isPrettyPrinted whether snapshot files should be indented for readability
+     */
+    public JsonDeltaAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    /**
+     * Returns the path of the file that holds the changes made since the snapshot at {@code filePath} was written.
+     */
+    public static Path getDeltaFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + DELTA_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the changes are not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<AddressBook> snapshot = JsonUtil.readJsonFile(filePath, AddressBook.class);
+        DeltaFileContents deltaFile = readDeltas(getDeltaFilePath(filePath));
+        List<AddressBookDelta> deltas = deltaFile.deltas;
+        if (!snapshot.isPresent() && deltas.isEmpty()) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook;
+        if (snapshot.isPresent()) {
+            addressBook = snapshot.get();
+        } else {
+            addressBook = new AddressBook();
+            Employment.newInstance();
+            JobIdFactory.setId(0);
+            PersonIdFactory.setId(0);
+        }
+
+        try {
+            for (AddressBookDelta delta : deltas) {
+                delta.applyTo(addressBook);
+            }
+            Employment.getInstance().dropDanglingAssociations(addressBook::hasJob, addressBook::hasPerson);
+        } catch (RuntimeException e) {
+            logger.info("Changes in " + getDeltaFilePath(filePath) + " could not be applied: " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedState = new SavedState(addressBook);
+            deltaCount = deltas.size();
+            deltaFileLength = deltaFile.completeLength;
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * The changes read from a delta file, and the length of the part of the file that they were read from.
+     */
+    private static class DeltaFileContents {
+        private final List<AddressBookDelta> deltas = new ArrayList<>();
+        private long completeLength = 0;
+    }
+
+    /**
+     * Returns the changes in the file at {@code deltaFilePath}, oldest first.
+     * A change that was only partially written, e.g. because of a crash, is dropped.
+     */
+    private static DeltaFileContents readDeltas(Path deltaFilePath) throws DataConversionException, IOException {
+        DeltaFileContents deltaFile = new DeltaFileContents();
+        List<AddressBookDelta> deltas = deltaFile.deltas;
+        if (!FileUtil.isFileExists(deltaFilePath)) {
+            return deltaFile;
+        }
+
+        String contents = FileUtil.readFromFile(deltaFilePath);
+        int end = contents.lastIndexOf(DELTA_SEPARATOR);
+        if (end == -1) {
+            return deltaFile;
+        }
+        deltaFile.completeLength = contents.substring(0, end + DELTA_SEPARATOR.length())
+                .getBytes(StandardCharsets.UTF_8).length;
+
+        try {
+            for (String line : contents.substring(0, end).split(DELTA_SEPARATOR)) {
+                deltas.add(JsonUtil.fromJsonString(line, AddressBookDelta.class));
+            }
+        } catch (IOException e) {
+            logger.info("Illegal values found in " + deltaFilePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+        return deltaFile;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the changes since the last save are written if {@code filePath} is the file path of this storage, and
+     * the data was read from or saved to it before. Otherwise, a full snapshot is written.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            saveSnapshot(addressBook, filePath);
+            return;
+        }
+
+        if (savedState == null) {
+            saveSnapshot(addressBook, filePath);
+            savedState = new SavedState(addressBook);
+            deltaCount = 0;
+            deltaFileLength = 0;
+            return;
+        }
+
+        // The saved state is only replaced once the changes are written, so that changes which fail to be written
+        // are written again by the next save
+        SavedState currentState = new SavedState(addressBook);
+        List<AddressBookDelta> deltas = getChanges(savedState, currentState);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // The changes are appended even when they are compacted, so that the changes left behind if compaction is
+        // interrupted end in the same state as the new snapshot
+        appendChanges(deltas);
+        savedState = currentState;
+        deltaCount += deltas.size();
+
+        int entityCount = addressBook.getPersonList().size() + addressBook.getJobList().size();
+        if (deltaCount >= Math.max(MIN_DELTAS_BEFORE_COMPACTION, entityCount)) {
+            compact(addressBook);
+        }
+    }
+
+    /**
+     * Appends {@code deltas} to the delta file, after dropping anything that follows the complete changes in it.
+     */
+    private void appendChanges(List<AddressBookDelta> deltas) throws IOException {
+        StringBuilder contents = new StringBuilder();
+        for (AddressBookDelta delta : deltas) {
+            contents.append(JsonUtil.toJsonString(delta, false)).append(DELTA_SEPARATOR);
+        }
+        Path deltaFilePath = getDeltaFilePath(filePath);
+        if (FileUtil.isFileExists(deltaFilePath) && Files.size(deltaFilePath) > deltaFileLength) {
+            // A partially written change, e.g. from a crash or a failed append, would be joined to the next one
+            FileUtil.truncateFile(deltaFilePath, deltaFileLength);
+        }
+        FileUtil.appendToFile(deltaFilePath, contents.toString());
+        deltaFileLength = Files.size(deltaFilePath);
+    }
+
+    /**
+     * Writes {@code addressBook}, whose changes have all been appended to the delta file, as a new snapshot at the
+     * file path of this storage, and removes those changes.
+     * Changes left behind by a crash between the two steps are harmless: they end in the state of the snapshot, so
+     * applying them to it changes nothing.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(addressBook, filePath, isPrettyPrinted);
+        deleteDeltaFile(getDeltaFilePath(filePath));
+        deltaCount = 0;
+        deltaFileLength = 0;
+    }
+
+    /**
+     * Removes the changes at {@code deltaFilePath} once they are included in a snapshot.
+     */
+    void deleteDeltaFile(Path deltaFilePath) throws IOException {
+        Files.deleteIfExists(deltaFilePath);
+    }
+
+    /**
+     * Writes {@code addressBook} as a snapshot at {@code filePath}, replacing any data and changes there.
+     * The changes are removed first, as they may not end in the state of {@code addressBook}.
+     */
+    private void saveSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        Files.deleteIfExists(getDeltaFilePath(filePath));
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(addressBook, filePath, isPrettyPrinted);
+    }
+
+    /**
+     * Returns the changes needed to turn the data in {@code from} into the data in {@code to}.
+     */
+    private static List<AddressBookDelta> getChanges(SavedState from, SavedState to) {
+        List<AddressBookDelta> deltas = new ArrayList<>();
+        diff(from.persons, to.persons, AddressBookDelta::putPerson, AddressBookDelta::removePerson, deltas);
+        diff(from.jobs, to.jobs, AddressBookDelta::putJob, AddressBookDelta::removeJob, deltas);
+
+        to.employment.forEach((jobId, personId) -> {
+            if (!personId.equals(from.employment.get(jobId))) {
+                deltas.add(AddressBookDelta.associate(jobId, personId));
+            }
+        });
+        from.employment.keySet().stream()
+                .filter(jobId -> !to.employment.containsKey(jobId))
+                .forEach(jobId -> deltas.add(AddressBookDelta.dissociate(jobId)));
+
+        if (to.jobIdState != from.jobIdState || to.personIdState != from.personIdState) {
+            deltas.add(AddressBookDelta.setIdState(to.jobIdState, to.personIdState));
+        }
+        return deltas;
+    }
+
+    /**
+     * Adds the changes needed to turn {@code saved} into {@code current} to {@code deltas}.
+     */
+    private static <T> void diff(Map<ID, T> saved, Map<ID, T> current, Function<T, AddressBookDelta> put,
+            Function<ID, AddressBookDelta> remove, List<AddressBookDelta> deltas) {
+        current.forEach((id, element) -> {
+            T savedElement = saved.get(id);
+            if (savedElement != element && !element.equals(savedElement)) {
+                deltas.add(put.apply(element));
+            }
+        });
+        saved.keySet().stream()
+                .filter(id -> !current.containsKey(id))
+                .forEach(id -> deltas.add(remove.apply(id)));
+    }
+
+    /**
+     * The persons, jobs, assignments and id states of an address book at some point in time.
+     */
+    private static class SavedState {
+        private final Map<ID, Person> persons = new HashMap<>();
+        private final Map<ID, Job> jobs = new HashMap<>();
+        private final Map<ID, ID> employment;
+        private final int jobIdState;
+        private final int personIdState;
+
+        SavedState(ReadOnlyAddressBook addressBook) {
+            addressBook.getPersonList().forEach(person -> persons.put(person.getPersonId(), person));
+            addressBook.getJobList().forEach(job -> jobs.put(job.getJobId(), job));
+            employment = new HashMap<>(Employment.getInstance().getAllJobs());
+            jobIdState = JobIdFactory.getId();
+            personIdState = PersonIdFactory.getId();
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package peoplesoft.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static peoplesoft.commons.util.CollectionUtil.requireAllNonNull;
 import static peoplesoft.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -82,6 +84,21 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void findDuplicateKeys() {
+        // null arguments
+        assertThrows(NullPointerException.class, () -> CollectionUtil.findDuplicateKeys(null, String::length));
+        assertThrows(NullPointerException.class, () -> CollectionUtil.findDuplicateKeys(Arrays.asList("a"), null));
+
+        // no duplicates
+        assertTrue(CollectionUtil.findDuplicateKeys(Collections.<String>emptyList(), String::length).isEmpty());
+        assertTrue(CollectionUtil.findDuplicateKeys(Arrays.asList("a", "bb", "ccc"), String::length).isEmpty());
+
+        // duplicates are reported once each, in the order they were first repeated
+        assertEquals(Arrays.asList(2, 1), new ArrayList<>(CollectionUtil.findDuplicateKeys(
+                Arrays.asList("a", "bb", "cc", "d", "ee", "f"), String::length)));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
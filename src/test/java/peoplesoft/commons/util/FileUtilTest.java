@@ -1,10 +1,17 @@
 package peoplesoft.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static peoplesoft.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
@@ -20,4 +27,25 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacesContentsWithoutLeavingTempFiles(@TempDir Path folder)
+            throws IOException {
+        Path file = folder.resolve("data.json");
+        FileUtil.writeToFile(file, "old contents that are longer");
+        FileUtil.writeToFile(file, "new contents");
+
+        assertEquals("new contents", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(folder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void truncateFile_longerFile_dropsEnd(@TempDir Path folder) throws IOException {
+        Path file = folder.resolve("data.jsonl");
+        FileUtil.writeToFile(file, "complete\npartial");
+        FileUtil.truncateFile(file, "complete\n".length());
+
+        assertEquals("complete\n", FileUtil.readFromFile(file));
+    }
 }
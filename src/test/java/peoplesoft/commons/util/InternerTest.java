@@ -0,0 +1,44 @@
+package peoplesoft.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static peoplesoft.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.model.job.Money;
+import peoplesoft.model.job.Rate;
+import peoplesoft.model.tag.Tag;
+import peoplesoft.model.util.ID;
+
+public class InternerTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<String>().intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        Interner<String> interner = new Interner<>();
+        String first = new String("value");
+        String second = new String("value");
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void of_equalValues_returnsSameInstance() throws Exception {
+        assertSame(Tag.of("friends"), Tag.of("friends"));
+        assertSame(ID.of("1ef4"), ID.of("1ef4"));
+        assertSame(Rate.of(new Money(5), Duration.ofHours(1)), Rate.of(new Money(5), Duration.ofHours(1)));
+
+        // deserialized values are shared too
+        assertSame(Tag.of("friends"), JsonUtil.fromJsonString("\"friends\"", Tag.class));
+        assertSame(ID.of("1ef4"), JsonUtil.fromJsonString("\"1ef4\"", ID.class));
+    }
+}
@@ -1,6 +1,8 @@
 package peoplesoft.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -27,6 +29,24 @@ public class JsonUtilTest {
         assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), SerializableTestClass.JSON_STRING_REPRESENTATION);
     }
 
+    @Test
+    public void serializeObjectToJsonFile_notPrettyPrinted_writesCompactJson() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, serializableTestClass, false);
+
+        String compact = FileUtil.readFromFile(SERIALIZATION_FILE);
+        assertFalse(compact.contains(System.lineSeparator()));
+        assertTrue(compact.length() < SerializableTestClass.JSON_STRING_REPRESENTATION.length());
+
+        SerializableTestClass readBack = JsonUtil
+                .deserializeObjectFromJsonFile(SERIALIZATION_FILE, SerializableTestClass.class);
+        assertEquals(SerializableTestClass.getNameTestValue(), readBack.getName());
+        assertEquals(SerializableTestClass.getListTestValues(), readBack.getListOfLocalDateTimes());
+        assertEquals(SerializableTestClass.getHashMapTestValues(), readBack.getMapOfIntegerToString());
+    }
+
     @Test
     public void deserializeObjectFromJsonFile_noExceptionThrown() throws IOException {
         FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
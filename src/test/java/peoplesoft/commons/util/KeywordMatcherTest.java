@@ -0,0 +1,94 @@
+package peoplesoft.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new KeywordMatcher(null));
+    }
+
+    @Test
+    public void constructor_keywordsEqualIgnoringCase_shareIndex() {
+        KeywordMatcher matcher = new KeywordMatcher(Arrays.asList("alice", "ALICE", "al", "bob"));
+        assertEquals(3, matcher.getKeywordCount());
+        assertFalse(matcher.hasUnmatchableKeyword());
+
+        BitSet found = new BitSet();
+        matcher.findWhole("Alice", found);
+        assertEquals(1, found.cardinality());
+    }
+
+    @Test
+    public void constructor_emptyOrMultiWordKeyword_unmatchable() {
+        assertTrue(new KeywordMatcher(Collections.singletonList("")).hasUnmatchableKeyword());
+        assertTrue(new KeywordMatcher(Arrays.asList("alice", "bob smith")).hasUnmatchableKeyword());
+        assertEquals(1, new KeywordMatcher(Arrays.asList("alice", "bob smith")).getKeywordCount());
+    }
+
+    @Test
+    public void findWords() {
+        KeywordMatcher matcher = new KeywordMatcher(Arrays.asList("al", "alice", "bob"));
+
+        // only whole words match, not prefixes or longer words
+        BitSet found = new BitSet();
+        matcher.findWords("  ALICE \t Bobby al", found);
+        assertEquals(bits(0, 1), found);
+
+        found = new BitSet();
+        matcher.findWords("ali alicea", found);
+        assertEquals(new BitSet(), found);
+
+        found = new BitSet();
+        matcher.findWords("", found);
+        assertEquals(new BitSet(), found);
+    }
+
+    @Test
+    public void findWhole() {
+        KeywordMatcher matcher = new KeywordMatcher(Arrays.asList("friends", "owesmoney"));
+
+        BitSet found = new BitSet();
+        matcher.findWhole("owesMoney", found);
+        assertEquals(bits(1), found);
+
+        found = new BitSet();
+        matcher.findWhole("friends forever", found);
+        matcher.findWhole("friend", found);
+        assertEquals(new BitSet(), found);
+    }
+
+    @Test
+    public void findWords_sameResultAsContainsWordIgnoreCase() {
+        List<String> keywords = Arrays.asList("a", "ab", "abc", "b", "xyz", "İ", "ss");
+        KeywordMatcher matcher = new KeywordMatcher(keywords);
+        String[] sentences = {"a", "AB c", "abcd ab", "B xYz", "ı i I", "SS ß", "   "};
+        for (String sentence : sentences) {
+            BitSet found = new BitSet();
+            matcher.findWords(sentence, found);
+            for (int i = 0; i < keywords.size(); i++) {
+                assertEquals(StringUtil.containsWordIgnoreCase(sentence, keywords.get(i)), found.get(i),
+                        sentence + " / " + keywords.get(i));
+            }
+        }
+    }
+
+    private static BitSet bits(int... indexes) {
+        BitSet bits = new BitSet();
+        for (int index : indexes) {
+            bits.set(index);
+        }
+        return bits;
+    }
+}
@@ -1,5 +1,7 @@
 package peoplesoft.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static peoplesoft.testutil.Assert.assertThrows;
@@ -123,6 +125,82 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    @Test
+    public void containsWordIgnoreCase_otherWhitespace_separatesWords() {
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\tbbb\nccc", "BBB"));
+        assertFalse(StringUtil.containsWordIgnoreCase("aaa\tbbb", "aaab"));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.containsWordIgnoreCase("typical sentence", "aaa\tbbb"));
+    }
+
+    //---------------- Tests for toLowerCaseWords and containsLowerCaseWord --------------------------------------
+
+    @Test
+    public void toLowerCaseWords() {
+        assertArrayEquals(new String[0], StringUtil.toLowerCaseWords(""));
+        assertArrayEquals(new String[0], StringUtil.toLowerCaseWords("   "));
+        assertArrayEquals(new String[] {"aaa", "bbb"}, StringUtil.toLowerCaseWords("  AAA \t bBb  "));
+    }
+
+    @Test
+    public void containsLowerCaseWord_sameResultAsContainsWordIgnoreCase() {
+        String[] sentences = {"", "aaa bBb ccc", "  AAA   bBb   ccc  ", "aaa bbb ccc@1"};
+        String[] words = {"aaa", "BBB", "bb", "bbbb", "CCc@1"};
+        for (String sentence : sentences) {
+            String[] lowerCaseWords = StringUtil.toLowerCaseWords(sentence);
+            for (String word : words) {
+                assertEquals(StringUtil.containsWordIgnoreCase(sentence, word),
+                        StringUtil.containsLowerCaseWord(lowerCaseWords, StringUtil.toLowerCase(word)));
+            }
+        }
+    }
+
+    @Test
+    public void toLowerCase_equalIgnoringCase_sameResult() {
+        assertEquals("abc", StringUtil.toLowerCase("aBC"));
+        // Equal ignoring case, but not when converted with String::toLowerCase
+        assertTrue("\u03a3".equalsIgnoreCase("\u03c2"));
+        assertEquals(StringUtil.toLowerCase("\u03a3"), StringUtil.toLowerCase("\u03c2"));
+    }
+
+    //---------------- Tests for toLowerCaseTokens and editDistance --------------------------------------
+
+    @Test
+    public void toLowerCaseTokens() {
+        assertArrayEquals(new String[0], StringUtil.toLowerCaseTokens(" #-, "));
+        assertArrayEquals(new String[] {"alice", "example", "com"}, StringUtil.toLowerCaseTokens("alice@Example.com"));
+        assertArrayEquals(new String[] {"08", "111", "ave"}, StringUtil.toLowerCaseTokens("#08-111, Ave 08"));
+    }
+
+    @Test
+    public void editDistance_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc", 1));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null, 1));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.editDistance("abc", "abc", -1));
+    }
+
+    @Test
+    public void editDistance_withinBound_returnsDistance() {
+        assertEquals(0, StringUtil.editDistance("", "", 0));
+        assertEquals(0, StringUtil.editDistance("abc", "abc", 0));
+        assertEquals(1, StringUtil.editDistance("abc", "abd", 2)); // substitution
+        assertEquals(1, StringUtil.editDistance("abc", "abxc", 2)); // insertion
+        assertEquals(1, StringUtil.editDistance("abc", "ac", 2)); // deletion
+        assertEquals(1, StringUtil.editDistance("abcd", "bacd", 2)); // swap
+        assertEquals(2, StringUtil.editDistance("abcd", "bcad", 2)); // no character is moved twice
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting", 3));
+        assertEquals(3, StringUtil.editDistance("", "abc", 5));
+    }
+
+    @Test
+    public void editDistance_beyondBound_returnsBoundPlusOne() {
+        assertEquals(1, StringUtil.editDistance("abc", "abd", 0));
+        assertEquals(1, StringUtil.editDistance("ab", "ba", 0));
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting", 2));
+        assertEquals(2, StringUtil.editDistance("abcdef", "a", 1));
+        assertEquals(2, StringUtil.editDistance("abcdef", "uvwxyz", 1));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,33 +1,49 @@
 package peoplesoft.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static peoplesoft.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static peoplesoft.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static peoplesoft.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static peoplesoft.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
 import static peoplesoft.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static peoplesoft.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static peoplesoft.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static peoplesoft.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static peoplesoft.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static peoplesoft.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static peoplesoft.logic.commands.CommandTestUtil.RATE_DESC_AMY;
+import static peoplesoft.logic.commands.CommandTestUtil.RATE_DESC_BOB;
 import static peoplesoft.testutil.Assert.assertThrows;
 import static peoplesoft.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import peoplesoft.commons.core.PersonIdFactory;
 import peoplesoft.logic.commands.AddCommand;
+import peoplesoft.logic.commands.ClearCommand;
 import peoplesoft.logic.commands.CommandResult;
+import peoplesoft.logic.commands.DeleteCommand;
+import peoplesoft.logic.commands.FindCommand;
 import peoplesoft.logic.commands.ListCommand;
+import peoplesoft.logic.commands.SortCommand;
 import peoplesoft.logic.commands.exceptions.CommandException;
+import peoplesoft.logic.commands.job.JobListCommand;
 import peoplesoft.logic.parser.exceptions.ParseException;
 import peoplesoft.model.Model;
 import peoplesoft.model.ModelManager;
 import peoplesoft.model.ReadOnlyAddressBook;
 import peoplesoft.model.UserPrefs;
 import peoplesoft.model.person.Person;
+import peoplesoft.storage.CommandJournal;
 import peoplesoft.storage.JsonAddressBookStorage;
 import peoplesoft.storage.JsonUserPrefsStorage;
 import peoplesoft.storage.StorageManager;
@@ -35,12 +51,15 @@ import peoplesoft.testutil.PersonBuilder;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+    /** A save delay long enough that saves only happen on flush. */
+    private static final long NEVER = Long.MAX_VALUE / 2;
 
     @TempDir
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
     private Logic logic;
+    private JsonAddressBookSaveCountingStub countingStorage;
 
     @BeforeEach
     public void setUp() {
@@ -49,6 +68,7 @@ public class LogicManagerTest {
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
+        countingStorage = new JsonAddressBookSaveCountingStub(temporaryFolder.resolve("countedAddressBook.json"));
     }
 
     @Test
@@ -70,16 +90,16 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
+    public void flush_storageThrowsIoException_throwsIoException() throws Exception {
         // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, NEVER);
 
-        // Execute add command
+        // Execute add command, which is only saved on flush
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
                 + ADDRESS_DESC_AMY + RATE_DESC_AMY;
         Person expectedPerson = new PersonBuilder(AMY)
@@ -88,8 +108,142 @@ public class LogicManagerTest {
             .build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(addCommand, String.format(AddCommand.MESSAGE_SUCCESS, expectedPerson), expectedModel);
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), () -> logic.flush());
+
+        // The failed save is retried on the next flush
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), () -> logic.flush());
+    }
+
+    @Test
+    public void execute_readOnlyCommands_noSave() throws Exception {
+        logic = new LogicManager(model, countingStorage, NEVER);
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(FindCommand.COMMAND_WORD + " Amy");
+        logic.execute(JobListCommand.COMMAND_WORD);
+        logic.flush();
+        assertEquals(0, countingStorage.getSaveCount());
+    }
+
+    @Test
+    public void execute_burstOfMutatingCommands_coalescedIntoOneSave() throws Exception {
+        logic = new LogicManager(model, countingStorage, NEVER);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + RATE_DESC_AMY);
+        logic.execute(ClearCommand.COMMAND_WORD);
+        assertEquals(0, countingStorage.getSaveCount());
+
+        logic.flush();
+        assertEquals(1, countingStorage.getSaveCount());
+
+        // Nothing left to save
+        logic.flush();
+        assertEquals(1, countingStorage.getSaveCount());
+    }
+
+    @Test
+    public void execute_mutatingCommand_savedInBackground() throws Exception {
+        logic = new LogicManager(model, countingStorage, 0);
+        logic.execute(ClearCommand.COMMAND_WORD);
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            while (countingStorage.getSaveCount() == 0) {
+                Thread.sleep(10);
+            }
+        });
+        assertEquals(model.getAddressBook(), countingStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_reportedAndRetried() throws Exception {
+        JsonAddressBookSaveCountingStub failingOnceStorage =
+                new JsonAddressBookSaveCountingStub(temporaryFolder.resolve("failingOnceAddressBook.json"), 1);
+        logic = new LogicManager(model, failingOnceStorage, 0);
+        logic.execute(ClearCommand.COMMAND_WORD);
+
+        // the failure is reported once, along with the result of a later command
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            while (!logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser()
+                    .contains(LogicManager.FILE_OPS_ERROR_MESSAGE)) {
+                Thread.sleep(10);
+            }
+        });
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+
+        // the save is retried without another change
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            while (failingOnceStorage.getSaveCount() == 0) {
+                Thread.sleep(10);
+            }
+        });
+        assertEquals(model.getAddressBook(), failingOnceStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void replayJournal_commandsNotSaved_replayedOnNewModel() throws Exception {
+        CommandJournal journal = CommandJournal.forDataFile(countingStorage.getAddressBookFilePath());
+        LogicManager journaledLogic = new LogicManager(model, countingStorage, journal, NEVER);
+        journaledLogic.replayJournal();
+        int personIdState = PersonIdFactory.getId();
+        journaledLogic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + RATE_DESC_AMY);
+        journaledLogic.execute(FindCommand.COMMAND_WORD + " Amy");
+        assertEquals(0, countingStorage.getSaveCount());
+
+        // Simulate a crash before the address book is saved
+        PersonIdFactory.setId(personIdState);
+        Model restartedModel = new ModelManager();
+        LogicManager restartedLogic = new LogicManager(restartedModel, countingStorage, journal, NEVER);
+        restartedLogic.replayJournal();
+        assertEquals(model.getAddressBook(), restartedModel.getAddressBook());
+        assertEquals(1, countingStorage.getSaveCount());
+
+        // The replayed commands are now in the saved address book, and are not replayed again
+        assertEquals(model.getAddressBook(), countingStorage.readAddressBook().get());
+        Model secondRestartedModel = new ModelManager(countingStorage.readAddressBook().get(), new UserPrefs());
+        new LogicManager(secondRestartedModel, countingStorage, journal, NEVER).replayJournal();
+        assertEquals(model.getAddressBook(), secondRestartedModel.getAddressBook());
+    }
+
+    @Test
+    public void replayJournal_sortedBeforeSave_indexesReferToSortedList() throws Exception {
+        CommandJournal journal = CommandJournal.forDataFile(countingStorage.getAddressBookFilePath());
+        LogicManager journaledLogic = new LogicManager(model, countingStorage, journal, NEVER);
+        journaledLogic.replayJournal();
+        journaledLogic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + RATE_DESC_AMY);
+        journaledLogic.execute(AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB
+                + ADDRESS_DESC_BOB + RATE_DESC_BOB);
+        journaledLogic.execute(SortCommand.COMMAND_WORD + " name " + SortCommand.DESCENDING);
+        journaledLogic.flush();
+
+        // Bob is shown first, so he is the one deleted
+        journaledLogic.execute(DeleteCommand.COMMAND_WORD + " 1");
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+
+        // Simulate a crash before the deletion is saved
+        Model restartedModel = new ModelManager(countingStorage.readAddressBook().get(), new UserPrefs());
+        new LogicManager(restartedModel, countingStorage, journal, NEVER).replayJournal();
+        assertEquals(model.getAddressBook(), restartedModel.getAddressBook());
+    }
+
+    @Test
+    public void replayJournal_journalForOlderSave_notReplayed() throws Exception {
+        CommandJournal journal = CommandJournal.forDataFile(countingStorage.getAddressBookFilePath());
+        LogicManager journaledLogic = new LogicManager(model, countingStorage, journal, NEVER);
+        journaledLogic.replayJournal();
+        journaledLogic.execute(ClearCommand.COMMAND_WORD);
+        journaledLogic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + RATE_DESC_AMY);
+        List<String> entries = journal.readEntries(CommandJournal.getDataFileId(
+                countingStorage.getAddressBookFilePath()));
+
+        // Simulate a crash after the address book is saved, but before the journal is reset
+        journaledLogic.flush();
+        journal.reset("stale", entries);
+
+        Model restartedModel = new ModelManager(countingStorage.readAddressBook().get(), new UserPrefs());
+        new LogicManager(restartedModel, countingStorage, journal, NEVER).replayJournal();
+        assertEquals(model.getAddressBook(), restartedModel.getAddressBook());
     }
 
     @Test
@@ -163,4 +317,36 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class that counts the number of times the address book is saved, after failing a given number of
+     * saves.
+     */
+    private static class JsonAddressBookSaveCountingStub extends StorageManager {
+        private final AtomicInteger saveCount = new AtomicInteger();
+        private final AtomicInteger failuresLeft;
+
+        private JsonAddressBookSaveCountingStub(Path filePath) {
+            this(filePath, 0);
+        }
+
+        private JsonAddressBookSaveCountingStub(Path filePath, int failureCount) {
+            super(new JsonAddressBookStorage(filePath),
+                    new JsonUserPrefsStorage(filePath.resolveSibling("prefs.json")));
+            failuresLeft = new AtomicInteger(failureCount);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (failuresLeft.getAndDecrement() > 0) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            super.saveAddressBook(addressBook);
+            saveCount.incrementAndGet();
+        }
+
+        private int getSaveCount() {
+            return saveCount.get();
+        }
+    }
 }
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static peoplesoft.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static peoplesoft.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
 import static peoplesoft.testutil.TypicalPersons.BENSON;
 import static peoplesoft.testutil.TypicalPersons.DANIEL;
 import static peoplesoft.testutil.TypicalPersons.getTypicalAddressBook;
@@ -18,6 +19,7 @@ import peoplesoft.model.Model;
 import peoplesoft.model.ModelManager;
 import peoplesoft.model.UserPrefs;
 import peoplesoft.model.person.PersonContainsKeywordsPredicate;
+import peoplesoft.model.tag.TagQuery;
 
 
 /**
@@ -74,6 +76,19 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_tagQuery_personsWithTagsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        TagQuery tagQuery = new TagQuery(Arrays.asList(Collections.singleton("friends")),
+                Collections.singleton("owesMoney"));
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(Collections.emptyList(),
+                tagQuery);
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredPersonList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code PersonContainsKeywordsPredicate}.
      * @return
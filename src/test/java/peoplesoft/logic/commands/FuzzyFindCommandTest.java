@@ -0,0 +1,77 @@
+package peoplesoft.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
+import static peoplesoft.testutil.TypicalPersons.DANIEL;
+import static peoplesoft.testutil.TypicalPersons.ELLE;
+import static peoplesoft.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.model.Model;
+import peoplesoft.model.ModelManager;
+import peoplesoft.model.UserPrefs;
+import peoplesoft.model.person.Person;
+import peoplesoft.model.person.PersonContainsKeywordsPredicate;
+import peoplesoft.model.person.PersonFuzzyMatchPredicate;
+import peoplesoft.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FuzzyFindCommand}.
+ */
+public class FuzzyFindCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FuzzyFindCommand command = new FuzzyFindCommand(
+                new PersonFuzzyMatchPredicate(Collections.singletonList("first")));
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new FuzzyFindCommand(
+                new PersonFuzzyMatchPredicate(Collections.singletonList("first")))));
+
+        assertFalse(command.equals(1));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new FuzzyFindCommand(
+                new PersonFuzzyMatchPredicate(Collections.singletonList("second")))));
+    }
+
+    @Test
+    public void execute_misspeltKeyword_listsClosestFirst() {
+        FuzzyFindCommand command = new FuzzyFindCommand(
+                new PersonFuzzyMatchPredicate(Collections.singletonList("Meyer")));
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_otherFilterAfterFind_orderRestored() {
+        new FuzzyFindCommand(new PersonFuzzyMatchPredicate(Collections.singletonList("Meyer"))).execute(model);
+        new ListCommand().execute(model);
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+
+        new SortCommand("name", true).execute(model);
+        new FuzzyFindCommand(new PersonFuzzyMatchPredicate(Collections.singletonList("Meyer"))).execute(model);
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredPersonList());
+        model.updateFilteredPersonList(new PersonContainsKeywordsPredicate(Collections.singletonList("Meier")));
+        assertEquals(Arrays.asList(DANIEL, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personEditedAfterFind_listUpdated() {
+        new FuzzyFindCommand(new PersonFuzzyMatchPredicate(Collections.singletonList("Meyer"))).execute(model);
+
+        Person renamed = new PersonBuilder(BENSON).withName("Benson Smith").build();
+        model.setPerson(BENSON, renamed);
+        assertEquals(Arrays.asList(ELLE, DANIEL), model.getFilteredPersonList());
+    }
+}
@@ -1,6 +1,7 @@
 package peoplesoft.logic.commands;
 
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -9,6 +10,7 @@ import peoplesoft.model.Model;
 import peoplesoft.model.ReadOnlyAddressBook;
 import peoplesoft.model.ReadOnlyUserPrefs;
 import peoplesoft.model.job.Job;
+import peoplesoft.model.job.PaySummary;
 import peoplesoft.model.person.Person;
 import peoplesoft.model.util.ID;
 
@@ -96,6 +98,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void sortFilteredPersonList(Comparator<Person> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasJob(ID jobId) {
         throw new AssertionError("This method should not be called.");
@@ -134,4 +141,19 @@ public class ModelStub implements Model {
     public void updateFilteredJobList(Predicate<Job> predicate) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public void sortFilteredJobList(Comparator<Job> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public PaySummary getPaySummary() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public PaySummary getPaySummary(Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
 }
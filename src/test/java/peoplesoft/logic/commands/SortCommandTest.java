@@ -0,0 +1,113 @@
+package peoplesoft.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.Assert.assertThrows;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
+import static peoplesoft.testutil.TypicalPersons.CARL;
+import static peoplesoft.testutil.TypicalPersons.DANIEL;
+import static peoplesoft.testutil.TypicalPersons.ELLE;
+import static peoplesoft.testutil.TypicalPersons.FIONA;
+import static peoplesoft.testutil.TypicalPersons.GEORGE;
+import static peoplesoft.testutil.TypicalPersons.HOON;
+import static peoplesoft.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.model.Model;
+import peoplesoft.model.ModelManager;
+import peoplesoft.model.UserPrefs;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.job.Money;
+import peoplesoft.model.job.Rate;
+import peoplesoft.model.person.PersonContainsKeywordsPredicate;
+import peoplesoft.model.util.Employment;
+import peoplesoft.model.util.ID;
+import peoplesoft.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SortCommand}.
+ */
+public class SortCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_invalidField_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SortCommand("phone", false));
+        assertThrows(IllegalArgumentException.class, () -> new SortCommand(SortCommand.UNSORTED, true));
+    }
+
+    @Test
+    public void execute_rateDescending_sortsByRate() {
+        CommandResult result = new SortCommand("rate", true).execute(model);
+        assertEquals(String.format(SortCommand.MESSAGE_SUCCESS, "rate", " (descending)"),
+                result.getFeedbackToUser());
+        assertEquals(Arrays.asList(ELLE, GEORGE, DANIEL, FIONA, CARL, ALICE, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_listChangesAfterSort_staysSorted() {
+        new SortCommand("name", true).execute(model);
+        assertEquals(Arrays.asList(GEORGE, FIONA, ELLE, DANIEL, CARL, BENSON, ALICE), model.getFilteredPersonList());
+
+        model.addPerson(HOON);
+        model.setPerson(CARL, new PersonBuilder(CARL).withName("zoe Kurz").build());
+        model.updateFilteredPersonList(new PersonContainsKeywordsPredicate(Collections.singletonList("Meier")));
+        assertEquals(Arrays.asList(HOON, DANIEL, BENSON), model.getFilteredPersonList());
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals("zoe Kurz", model.getFilteredPersonList().get(0).getName().fullName);
+    }
+
+    @Test
+    public void execute_outstandingDescending_staysSortedAsPayChanges() {
+        Employment.newInstance();
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Job eating = new Job(new ID(1), "Eating", new Rate(new Money(5), Duration.ofHours(1)), Duration.ofHours(2),
+                false);
+        Job sleeping = new Job(new ID(2), "Sleeping", new Rate(new Money(1), Duration.ofHours(1)),
+                Duration.ofHours(8), false);
+        model.addJob(eating);
+        model.addJob(sleeping);
+        Employment.getInstance().associate(eating, CARL);
+        Employment.getInstance().associate(sleeping, FIONA);
+
+        new SortCommand("outstanding", true).execute(model);
+        assertEquals(Arrays.asList(CARL, FIONA, GEORGE, ELLE, DANIEL, BENSON, ALICE), model.getFilteredPersonList());
+
+        // nothing is owed for a paid job
+        model.setJob(eating, eating.setAsPaid());
+        assertEquals(Arrays.asList(FIONA, GEORGE, ELLE, DANIEL, CARL, BENSON, ALICE), model.getFilteredPersonList());
+        Employment.getInstance().associate(sleeping, GEORGE);
+        assertEquals(GEORGE, model.getFilteredPersonList().get(0));
+    }
+
+    @Test
+    public void execute_unsortedAfterSort_restoresOrderAdded() {
+        new SortCommand("name", true).execute(model);
+        model.addPerson(HOON);
+
+        CommandResult result = new SortCommand(SortCommand.UNSORTED, false).execute(model);
+        assertEquals(SortCommand.MESSAGE_UNSORTED, result.getFeedbackToUser());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE, HOON),
+                model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        SortCommand command = new SortCommand("name", false);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new SortCommand("name", false)));
+
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(1));
+        assertFalse(command.equals(new SortCommand("name", true)));
+        assertFalse(command.equals(new SortCommand("id", false)));
+    }
+}
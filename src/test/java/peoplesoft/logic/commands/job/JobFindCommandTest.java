@@ -0,0 +1,63 @@
+package peoplesoft.logic.commands.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.logic.parser.exceptions.ParseException;
+import peoplesoft.model.ModelManager;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.job.Money;
+import peoplesoft.model.job.Rate;
+import peoplesoft.model.util.Employment;
+import peoplesoft.model.util.ID;
+
+public class JobFindCommandTest {
+    private static final Job EATING = new Job(new ID(1), "Eating",
+            new Rate(new Money(5.5), Duration.ofHours(1)), Duration.ofHours(2), false);
+    private static final Job SLEEPING = new Job(new ID(2), "Sleeping",
+            new Rate(new Money(100), Duration.ofHours(1)), Duration.ofHours(8), false);
+
+    @Test
+    public void constructor_invalidArgs_throwsParseException() {
+        assertThrows(NullPointerException.class, () -> new JobFindCommand(null));
+        assertThrows(ParseException.class, () -> new JobFindCommand(" pay/"));
+    }
+
+    @Test
+    public void execute_unpaidOverAmount_listsMatchingJobs() throws Exception {
+        Employment.newInstance();
+        ModelManager model = new ModelManager();
+        model.addJob(EATING);
+        model.addJob(SLEEPING);
+
+        new JobFindCommand(" unpaid pay/500-").execute(model);
+        assertEquals(Arrays.asList(SLEEPING), model.getFilteredJobList());
+
+        // marking the job as paid removes it from the list
+        model.setJob(SLEEPING, SLEEPING.setAsPaid());
+        assertEquals(Collections.emptyList(), model.getFilteredJobList());
+
+        new JobFindCommand(" d/-2").execute(model);
+        assertEquals(Arrays.asList(EATING), model.getFilteredJobList());
+    }
+
+    @Test
+    public void equals() throws Exception {
+        JobFindCommand command = new JobFindCommand(" paid r/10-");
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new JobFindCommand(" paid r/ 10 -")));
+
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new JobFindCommand(" unpaid r/10-")));
+        assertFalse(command.equals(new JobFindCommand(" paid r/-10")));
+    }
+}
@@ -0,0 +1,39 @@
+package peoplesoft.logic.commands.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.model.ModelManager;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.job.Money;
+import peoplesoft.model.job.Rate;
+import peoplesoft.model.util.Employment;
+import peoplesoft.model.util.ID;
+
+public class JobListCommandTest {
+    private static final Job EATING = new Job(new ID(1), "Eating",
+            new Rate(new Money(5.5), Duration.ofHours(1)), Duration.ofHours(2), false);
+    private static final Job SLEEPING = new Job(new ID(2), "Sleeping",
+            new Rate(new Money(1), Duration.ofHours(1)), Duration.ofHours(8), false);
+
+    @Test
+    public void execute_assignmentToMissingPerson_leftOut() throws Exception {
+        Employment.newInstance();
+        ModelManager model = new ModelManager();
+        model.addPerson(ALICE);
+        model.addJob(EATING);
+        model.addJob(SLEEPING);
+        Employment.getInstance().associate(EATING, ALICE);
+        Employment.getInstance().associate(SLEEPING.getJobId(), new ID(999));
+
+        assertEquals(String.format(JobListCommand.MESSAGE_SUCCESS, List.of(EATING, SLEEPING),
+                Collections.singletonMap(EATING.getJobId(), ALICE.getName())),
+                new JobListCommand().execute(model).getFeedbackToUser());
+    }
+}
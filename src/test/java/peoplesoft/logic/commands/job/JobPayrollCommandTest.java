@@ -0,0 +1,65 @@
+package peoplesoft.logic.commands.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static peoplesoft.testutil.Assert.assertThrows;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.commons.core.Messages;
+import peoplesoft.logic.commands.exceptions.CommandException;
+import peoplesoft.logic.parser.exceptions.ParseException;
+import peoplesoft.model.ModelManager;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.job.Money;
+import peoplesoft.model.job.PaySummary;
+import peoplesoft.model.job.Rate;
+import peoplesoft.model.util.Employment;
+import peoplesoft.model.util.ID;
+
+public class JobPayrollCommandTest {
+    private static final Job EATING = new Job(new ID(1), "Eating",
+            new Rate(new Money(5.5), Duration.ofHours(1)), Duration.ofHours(2), false);
+
+    @Test
+    public void constructor_nullArgs_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JobPayrollCommand(null));
+    }
+
+    @Test
+    public void constructor_invalidIndex_throwsParseException() {
+        assertThrows(ParseException.class, () -> new JobPayrollCommand(" 0"));
+        assertThrows(ParseException.class, () -> new JobPayrollCommand(" one"));
+    }
+
+    @Test
+    public void execute_nullModel_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JobPayrollCommand("").execute(null));
+    }
+
+    @Test
+    public void execute_noIndex_showsAllJobs() throws Exception {
+        Employment.newInstance();
+        ModelManager model = new ModelManager();
+        model.addJob(EATING);
+
+        assertEquals(String.format(JobPayrollCommand.MESSAGE_SUCCESS_ALL, PaySummary.EMPTY.plus(EATING)),
+                new JobPayrollCommand("").execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_index_showsJobsOfPerson() throws Exception {
+        Employment.newInstance();
+        ModelManager model = new ModelManager();
+        model.addPerson(ALICE);
+        model.addJob(EATING);
+        Employment.getInstance().associate(EATING, ALICE);
+
+        assertEquals(String.format(JobPayrollCommand.MESSAGE_SUCCESS_PERSON, ALICE.getName(),
+                PaySummary.EMPTY.plus(EATING)), new JobPayrollCommand(" 1").execute(model).getFeedbackToUser());
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, () ->
+                new JobPayrollCommand(" 2").execute(model));
+    }
+}
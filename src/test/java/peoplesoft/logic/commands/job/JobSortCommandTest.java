@@ -0,0 +1,83 @@
+package peoplesoft.logic.commands.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.logic.parser.exceptions.ParseException;
+import peoplesoft.model.ModelManager;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.job.Money;
+import peoplesoft.model.job.Rate;
+import peoplesoft.model.util.Employment;
+import peoplesoft.model.util.ID;
+
+public class JobSortCommandTest {
+    private static final Job EATING = new Job(new ID(1), "Eating",
+            new Rate(new Money(5.5), Duration.ofHours(1)), Duration.ofHours(2), false);
+    private static final Job SLEEPING = new Job(new ID(2), "Sleeping",
+            new Rate(new Money(100), Duration.ofHours(1)), Duration.ofHours(8), false);
+    private static final Job WORKING = new Job(new ID(10), "Working",
+            new Rate(new Money(20), Duration.ofHours(1)), Duration.ofHours(1), false);
+
+    @Test
+    public void constructor_invalidArgs_throwsParseException() {
+        assertThrows(NullPointerException.class, () -> new JobSortCommand(null));
+        assertThrows(ParseException.class, () -> new JobSortCommand(""));
+        assertThrows(ParseException.class, () -> new JobSortCommand(" duration"));
+        assertThrows(ParseException.class, () -> new JobSortCommand(" pay up"));
+        assertThrows(ParseException.class, () -> new JobSortCommand(" none desc"));
+    }
+
+    @Test
+    public void execute_outstandingDescending_staysSortedAsJobsChange() throws Exception {
+        Employment.newInstance();
+        ModelManager model = new ModelManager();
+        model.addJob(EATING);
+        model.addJob(SLEEPING);
+
+        new JobSortCommand(" outstanding desc").execute(model);
+        assertEquals(Arrays.asList(SLEEPING, EATING), model.getFilteredJobList());
+
+        // nothing is owed for a paid job
+        Job paidSleeping = SLEEPING.setAsPaid();
+        model.setJob(SLEEPING, paidSleeping);
+        model.addJob(WORKING);
+        assertEquals(Arrays.asList(WORKING, EATING, paidSleeping), model.getFilteredJobList());
+
+        // numeric ids are compared as numbers
+        new JobSortCommand(" id").execute(model);
+        assertEquals(Arrays.asList(EATING, paidSleeping, WORKING), model.getFilteredJobList());
+    }
+
+    @Test
+    public void execute_unsortedAfterSort_restoresOrderAdded() throws Exception {
+        Employment.newInstance();
+        ModelManager model = new ModelManager();
+        model.addJob(WORKING);
+        model.addJob(EATING);
+        new JobSortCommand(" id").execute(model);
+        model.addJob(SLEEPING);
+
+        new JobSortCommand(" " + JobSortCommand.UNSORTED).execute(model);
+        assertEquals(Arrays.asList(WORKING, EATING, SLEEPING), model.getFilteredJobList());
+    }
+
+    @Test
+    public void equals() throws Exception {
+        JobSortCommand command = new JobSortCommand(" pay desc");
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new JobSortCommand(" PAY  Desc ")));
+
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new JobSortCommand(" pay")));
+        assertFalse(command.equals(new JobSortCommand(" rate desc")));
+    }
+}
@@ -5,11 +5,16 @@ import static peoplesoft.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static peoplesoft.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import peoplesoft.logic.commands.FindCommand;
 import peoplesoft.model.person.PersonContainsKeywordsPredicate;
+import peoplesoft.model.tag.Tag;
+import peoplesoft.model.tag.TagQuery;
 
 public class FindCommandParserTest {
 
@@ -31,4 +36,28 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_tagConditions_returnsFindCommand() {
+        TagQuery tagQuery = new TagQuery(Arrays.asList(set("Hardware", "Display"), set("Senior")), set("Intern"));
+        FindCommand expectedFindCommand =
+                new FindCommand(new PersonContainsKeywordsPredicate(Arrays.asList("Alice"), tagQuery));
+        assertParseSuccess(parser, "Alice t/Hardware|Display t/Senior t/-Intern", expectedFindCommand);
+
+        // tag conditions only
+        expectedFindCommand = new FindCommand(new PersonContainsKeywordsPredicate(Collections.emptyList(),
+                new TagQuery(Collections.emptyList(), set("Intern"))));
+        assertParseSuccess(parser, " t/-Intern", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, " t/Hardware|", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/-", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/Hard*ware", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    private static Set<String> set(String... tagNames) {
+        return new LinkedHashSet<>(Arrays.asList(tagNames));
+    }
+
 }
@@ -0,0 +1,34 @@
+package peoplesoft.logic.parser;
+
+import static peoplesoft.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static peoplesoft.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static peoplesoft.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.logic.commands.FuzzyFindCommand;
+import peoplesoft.model.person.PersonFuzzyMatchPredicate;
+
+public class FuzzyFindCommandParserTest {
+
+    private FuzzyFindCommandParser parser = new FuzzyFindCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FuzzyFindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFuzzyFindCommand() {
+        FuzzyFindCommand expectedCommand =
+                new FuzzyFindCommand(new PersonFuzzyMatchPredicate(Arrays.asList("Alcie", "Bob")));
+        assertParseSuccess(parser, "Alcie Bob", expectedCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n Alcie \n \t Bob  \t", expectedCommand);
+    }
+
+}
@@ -0,0 +1,31 @@
+package peoplesoft.logic.parser;
+
+import static peoplesoft.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static peoplesoft.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static peoplesoft.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.logic.commands.SortCommand;
+
+public class SortCommandParserTest {
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        assertParseSuccess(parser, "name", new SortCommand("name", false));
+        assertParseSuccess(parser, " \n Rate \t DESC ", new SortCommand("rate", true));
+        assertParseSuccess(parser, " None ", new SortCommand(SortCommand.UNSORTED, false));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, "phone", expectedMessage);
+        assertParseFailure(parser, "name asc", expectedMessage);
+        assertParseFailure(parser, "name desc desc", expectedMessage);
+        assertParseFailure(parser, "none desc", expectedMessage);
+    }
+}
@@ -0,0 +1,51 @@
+package peoplesoft.logic.parser.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static peoplesoft.testutil.Assert.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.commons.util.Range;
+import peoplesoft.logic.parser.exceptions.ParseException;
+import peoplesoft.model.job.JobQuery;
+import peoplesoft.model.job.Money;
+
+public class JobFindCommandParserTest {
+
+    private JobFindCommandParser parser = new JobFindCommandParser();
+
+    @Test
+    public void parse_noArgs_matchesAllJobs() throws Exception {
+        assertEquals(new JobQuery(Range.all(), Range.all(), Range.all(), Optional.empty()), parser.parse(""));
+    }
+
+    @Test
+    public void parse_validArgs_returnsJobQuery() throws Exception {
+        JobQuery expected = new JobQuery(Range.atLeast(new Money(500)), Range.of(new Money(10), new Money(20.5)),
+                Range.atMost(Duration.ofMinutes(90)), Optional.of(false));
+        assertEquals(expected, parser.parse(" unpaid pay/500- r/10-20.5 d/-1.5"));
+        assertEquals(expected, parser.parse(" UNPAID d/ -1.5 r/10 - 20.5 pay/500 - "));
+
+        // single value
+        expected = new JobQuery(Range.all(), Range.of(new Money(new BigDecimal("12.5")), new Money(12.5)),
+                Range.all(), Optional.of(true));
+        assertEquals(expected, parser.parse(" paid r/12.5"));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // Unknown status
+        assertThrows(ParseException.class, () -> parser.parse(" owed"));
+        // Range without bounds
+        assertThrows(ParseException.class, () -> parser.parse(" pay/-"));
+        // Bounds that are not numbers
+        assertThrows(ParseException.class, () -> parser.parse(" pay/a-b"));
+        assertThrows(ParseException.class, () -> parser.parse(" d/1-world"));
+        // Lower bound above upper bound
+        assertThrows(ParseException.class, Range.MESSAGE_CONSTRAINTS, () -> parser.parse(" r/20-10"));
+    }
+}
@@ -16,7 +16,6 @@ import static peoplesoft.testutil.TypicalPersons.FIONA;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -53,7 +52,7 @@ public class AddressBookSerdesTest {
             .map((j) -> serializeJob(j))
             .collect(Collectors.toList());*/
 
-        String serializedEmployment = JsonUtil.toJsonString(Employment.getInstance().getAllJobs());
+        String serializedEmployment = JsonUtil.toJsonString(Employment.getInstance());
 
         String serializedJobIdState = String.valueOf(JobIdFactory.getId());
         String serializedPersonIdState = String.valueOf(PersonIdFactory.getId());
@@ -77,7 +76,7 @@ public class AddressBookSerdesTest {
         LinkedHashMap<String, String> map = new LinkedHashMap<>();
         map.put("persons", serializeList(List.of()));
         map.put("jobs", serializeList(List.of()));
-        map.put("employment", JsonUtil.toJsonString(Employment.getInstance().getAllJobs()));
+        map.put("employment", JsonUtil.toJsonString(Employment.getInstance()));
         map.put("jobIdState", JsonUtil.toJsonString(JobIdFactory.getId()));
         map.put("personIdState", JsonUtil.toJsonString(PersonIdFactory.getId()));
 
@@ -139,6 +138,8 @@ public class AddressBookSerdesTest {
 
     @Test
     public void deserialize_validSerialization_returnsAddressBook() throws IOException {
+        // Assignments of jobs that are not in the list are dropped when read
+        Employment.newInstance();
         List<Person> personList = Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA);
         List<Job> jobList = List.of();
 
@@ -155,7 +156,7 @@ public class AddressBookSerdesTest {
             .map((j) -> serializeJob(j))
             .collect(Collectors.toList());*/
 
-        String serializedEmployment = JsonUtil.toJsonString(Employment.getInstance().getAllJobs());
+        String serializedEmployment = JsonUtil.toJsonString(Employment.getInstance());
 
         int id = JobIdFactory.getId();
         String serializedJobIdState = JsonUtil.toJsonString(id);
@@ -171,7 +172,7 @@ public class AddressBookSerdesTest {
         assertEquals(ab, JsonUtil.fromJsonString(serialized, AddressBook.class));
         // Checks if employment and jobIdState gets serialized correctly
         assertEquals(Employment.getInstance().getAllJobs(),
-                JsonUtil.fromJsonString(serializedEmployment, HashMap.class));
+                JsonUtil.fromJsonString(serializedEmployment, Employment.class).getAllJobs());
         assertEquals(id, JsonUtil.fromJsonString(serializedJobIdState, int.class));
         // TODO if needed
     }
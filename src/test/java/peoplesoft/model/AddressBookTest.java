@@ -55,6 +55,27 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void getModificationCount_changesOnEveryChange() {
+        long count = addressBook.getModificationCount();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getModificationCount() != count);
+
+        count = addressBook.getModificationCount();
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertTrue(addressBook.getModificationCount() != count);
+
+        count = addressBook.getModificationCount();
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getModificationCount() != count);
+
+        // reads do not change it
+        count = addressBook.getModificationCount();
+        addressBook.hasPerson(ALICE.getPersonId());
+        addressBook.getPersonList();
+        assertEquals(count, addressBook.getModificationCount());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
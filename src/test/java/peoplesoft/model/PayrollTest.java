@@ -0,0 +1,111 @@
+package peoplesoft.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.model.job.Job;
+import peoplesoft.model.job.Money;
+import peoplesoft.model.job.PaySummary;
+import peoplesoft.model.job.Rate;
+import peoplesoft.model.util.Employment;
+import peoplesoft.model.util.ID;
+
+public class PayrollTest {
+    private static final Job EATING = new Job(new ID(1), "Eating",
+            new Rate(new Money(5.5), Duration.ofHours(1)), Duration.ofHours(2), false);
+    private static final Job RUNNING = new Job(new ID(2), "Running",
+            new Rate(new Money(6), Duration.ofHours(4)), Duration.ofHours(8), true);
+    private static final Job SLEEPING = new Job(new ID(3), "Sleeping",
+            new Rate(new Money(1), Duration.ofHours(1)), Duration.ofHours(8), false);
+
+    private ModelManager model;
+
+    @BeforeEach
+    public void setUp() {
+        Employment.newInstance();
+        model = new ModelManager();
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        model.addJob(EATING);
+        model.addJob(RUNNING);
+        model.addJob(SLEEPING);
+    }
+
+    @Test
+    public void getPaySummary_jobsAdded_totalsAllJobs() {
+        assertEquals(summaryOf(EATING, RUNNING, SLEEPING), model.getPaySummary());
+        assertEquals(new Money(12), model.getPaySummary().getPaid());
+        assertEquals(new Money(19), model.getPaySummary().getUnpaid());
+        assertEquals(new Money(31), model.getPaySummary().getEarned());
+        assertEquals(PaySummary.EMPTY, model.getPaySummary(ALICE));
+    }
+
+    @Test
+    public void getPaySummary_jobsAssigned_totalsPerPerson() {
+        Employment.getInstance().associate(EATING, ALICE);
+        Employment.getInstance().associate(RUNNING, ALICE);
+        Employment.getInstance().associate(SLEEPING, BENSON);
+        assertEquals(summaryOf(EATING, RUNNING), model.getPaySummary(ALICE));
+        assertEquals(summaryOf(SLEEPING), model.getPaySummary(BENSON));
+
+        // reassigned -> moves to the new person
+        Employment.getInstance().associate(RUNNING, BENSON);
+        assertEquals(summaryOf(EATING), model.getPaySummary(ALICE));
+        assertEquals(summaryOf(RUNNING, SLEEPING), model.getPaySummary(BENSON));
+
+        // person deleted -> their jobs are no longer counted for them
+        Employment.getInstance().deletePerson(BENSON);
+        assertEquals(PaySummary.EMPTY, model.getPaySummary(BENSON));
+        assertEquals(summaryOf(EATING, RUNNING, SLEEPING), model.getPaySummary());
+    }
+
+    @Test
+    public void getPaySummary_jobMarked_movesBetweenPaidAndUnpaid() {
+        Employment.getInstance().associate(EATING, ALICE);
+        model.setJob(EATING, EATING.setAsPaid());
+
+        assertEquals(summaryOf(EATING.setAsPaid(), RUNNING, SLEEPING), model.getPaySummary());
+        assertEquals(summaryOf(EATING.setAsPaid()), model.getPaySummary(ALICE));
+    }
+
+    @Test
+    public void getPaySummary_jobDeleted_eitherOrder() {
+        Employment.getInstance().associate(EATING, ALICE);
+        Employment.getInstance().associate(RUNNING, ALICE);
+
+        // deleted from the address book first, as by JobDeleteCommand
+        model.deleteJob(EATING);
+        Employment.getInstance().deleteJob(EATING);
+        assertEquals(summaryOf(RUNNING), model.getPaySummary(ALICE));
+
+        // unassigned first
+        Employment.getInstance().deleteJob(RUNNING);
+        model.deleteJob(RUNNING);
+        assertEquals(PaySummary.EMPTY, model.getPaySummary(ALICE));
+        assertEquals(summaryOf(SLEEPING), model.getPaySummary());
+    }
+
+    @Test
+    public void getPaySummary_employmentReplaced_recalculates() {
+        Employment.getInstance().associate(EATING, ALICE);
+        Employment.newInstance();
+        assertEquals(PaySummary.EMPTY, model.getPaySummary(ALICE));
+
+        model.setAddressBook(new AddressBook());
+        assertEquals(PaySummary.EMPTY, model.getPaySummary());
+    }
+
+    private static PaySummary summaryOf(Job... jobs) {
+        PaySummary summary = PaySummary.EMPTY;
+        for (Job job : jobs) {
+            summary = summary.plus(job);
+        }
+        return summary;
+    }
+}
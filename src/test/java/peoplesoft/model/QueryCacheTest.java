@@ -0,0 +1,51 @@
+package peoplesoft.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+public class QueryCacheTest {
+    private final List<String> computed = new ArrayList<>();
+    private final Function<String, Object> compute = query -> {
+        computed.add(query);
+        return new Object();
+    };
+
+    @Test
+    public void get_sameVersion_reusesResult() {
+        QueryCache<String, Object> cache = new QueryCache<>(2);
+        Object result = cache.get("a", 1, compute);
+        assertSame(result, cache.get("a", 1, compute));
+        assertEquals(List.of("a"), computed);
+    }
+
+    @Test
+    public void get_otherVersion_recomputesResult() {
+        QueryCache<String, Object> cache = new QueryCache<>(2);
+        Object result = cache.get("a", 1, compute);
+        Object newResult = cache.get("a", 2, compute);
+        assertSame(newResult, cache.get("a", 2, compute));
+        assertEquals(List.of("a", "a"), computed);
+        assertNotSame(result, newResult);
+    }
+
+    @Test
+    public void get_overCapacity_dropsLeastRecentlyUsed() {
+        QueryCache<String, Object> cache = new QueryCache<>(2);
+        cache.get("a", 1, compute);
+        cache.get("b", 1, compute);
+        cache.get("a", 1, compute);
+        cache.get("c", 1, compute);
+
+        // "b" was used least recently
+        cache.get("a", 1, compute);
+        cache.get("b", 1, compute);
+        assertEquals(List.of("a", "b", "c", "b"), computed);
+    }
+}
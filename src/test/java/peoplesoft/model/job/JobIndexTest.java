@@ -0,0 +1,84 @@
+package peoplesoft.model.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.commons.util.Range;
+import peoplesoft.model.util.ID;
+
+public class JobIndexTest {
+    private static final List<JobQuery> QUERIES = Arrays.asList(
+            query(Range.all(), Range.all(), Range.all(), Optional.empty()),
+            query(Range.atLeast(new Money(100)), Range.all(), Range.all(), Optional.empty()),
+            query(Range.atLeast(new Money(100)), Range.all(), Range.all(), Optional.of(false)),
+            query(Range.of(new Money(20), new Money(80)), Range.all(), Range.atMost(Duration.ofHours(2)),
+                    Optional.empty()),
+            query(Range.all(), Range.of(new Money(10), new Money(10)), Range.all(), Optional.of(true)),
+            query(Range.all(), Range.all(), Range.atLeast(Duration.ofHours(3)), Optional.empty()),
+            query(Range.atMost(new Money(1)), Range.all(), Range.all(), Optional.empty()));
+
+    private final UniqueJobList jobs = new UniqueJobList();
+    private final JobIndex index = jobs.getJobIndex();
+
+    @Test
+    public void find_matchesLikeQuery() {
+        jobs.setJobs(Arrays.asList(job(1, 10, 1, false), job(2, 10, 3, true), job(3, 25, 2, false),
+                job(4, 50, 4, false), job(5, 5, 8, true), job(6, 25, 2, true)));
+        assertFindMatchesQueries();
+
+        jobs.remove(job(3, 25, 2, false));
+        jobs.setJob(job(4, 50, 4, false), job(4, 50, 4, true));
+        jobs.add(job(7, 100, 1, false));
+        assertFindMatchesQueries();
+
+        jobs.setJobs(Arrays.asList(job(8, 10, 1, true)));
+        assertFindMatchesQueries();
+    }
+
+    @Test
+    public void using_jobEdited_matchesEditedJob() {
+        Job unpaid = job(1, 100, 2, false);
+        jobs.setJobs(Arrays.asList(unpaid, job(2, 10, 1, false)));
+        JobQuery query = query(Range.atLeast(new Money(100)), Range.all(), Range.all(), Optional.of(false));
+        Predicate<Job> predicate = query.using(index);
+        assertTrue(predicate.test(unpaid));
+        assertFalse(predicate.test(job(2, 10, 1, false)));
+
+        Job paid = unpaid.setAsPaid();
+        jobs.setJob(unpaid, paid);
+        assertFalse(predicate.test(paid));
+        assertTrue(index.contains(paid));
+        assertFalse(index.contains(unpaid));
+    }
+
+    private void assertFindMatchesQueries() {
+        for (JobQuery query : QUERIES) {
+            List<Job> expected = jobs.asUnmodifiableObservableList().stream()
+                    .filter(query).collect(Collectors.toList());
+            List<Job> actual = index.find(query);
+            assertEquals(expected.size(), actual.size(), query.toString());
+            assertEquals(new HashSet<>(expected), new HashSet<>(actual), query.toString());
+        }
+    }
+
+    private static JobQuery query(Range<Money> pay, Range<Money> rate, Range<Duration> duration,
+            Optional<Boolean> hasPaid) {
+        return new JobQuery(pay, rate, duration, hasPaid);
+    }
+
+    private static Job job(int id, double rate, long hours, boolean hasPaid) {
+        return new Job(new ID(id), "Job " + id, new Rate(new Money(rate), Duration.ofHours(1)),
+                Duration.ofHours(hours), hasPaid);
+    }
+}
@@ -1,6 +1,8 @@
 package peoplesoft.model.job;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
@@ -23,6 +25,19 @@ class JobTest {
         assertTrue(RUNNING.calculatePay().getValue().compareTo(BigDecimal.valueOf(12)) == 0);
     }
 
+    @Test
+    public void calculatePay_calledTwice_returnsSameInstance() {
+        assertSame(EATING.calculatePay(), EATING.calculatePay());
+    }
+
+    @Test
+    public void hashCode_equalJobs_returnsSameHashCode() {
+        Job copy = new Job(new ID(1043), "Eating",
+            new Rate(new Money(5.5), Duration.ofHours(1)), Duration.ofDays(1), false);
+        assertEquals(EATING.hashCode(), copy.hashCode());
+        assertEquals(EATING.hashCode(), EATING.hashCode());
+    }
+
     @Test
     public void setAsPaid() {
         // paid -> returns true
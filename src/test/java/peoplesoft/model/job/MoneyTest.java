@@ -55,6 +55,45 @@ public class MoneyTest {
         assertTrue(ONE.multiply(ONE).getValue().compareTo(BigDecimal.ONE) == 0);
     }
 
+    @Test
+    public void multiply_money_roundsHalfUp() {
+        assertEquals(new Money(new BigDecimal("0.000001")),
+                new Money(new BigDecimal("0.5")).multiply(new Money(new BigDecimal("0.000001"))));
+        assertEquals(new Money(new BigDecimal("-0.000001")),
+                new Money(new BigDecimal("-0.5")).multiply(new Money(new BigDecimal("0.000001"))));
+        assertEquals(new Money(new BigDecimal("0")),
+                new Money(new BigDecimal("0.4")).multiply(new Money(new BigDecimal("0.000001"))));
+    }
+
+    @Test
+    public void multiply_long() {
+        assertEquals(new Money(16.5), new Money(5.5).multiply(3));
+        assertEquals(new Money(-2), ONE.multiply(-2));
+    }
+
+    @Test
+    public void arithmetic_beyondLongRange_fallsBackToBigDecimal() {
+        BigDecimal largest = BigDecimal.valueOf(Long.MAX_VALUE, 6);
+        Money max = new Money(largest);
+
+        assertEquals(new Money(largest.add(BigDecimal.ONE)), max.add(ONE));
+        assertEquals(new Money(largest.negate().subtract(BigDecimal.valueOf(2))), ZERO.subtract(max).subtract(TWO));
+        assertEquals(new Money(largest.multiply(BigDecimal.valueOf(3))), max.multiply(3));
+        assertEquals(new Money(largest.multiply(largest)), max.multiply(max));
+
+        // back within range -> equal to the same value computed without falling back
+        assertEquals(max, max.add(ONE).subtract(ONE));
+        assertEquals(max.add(ONE).hashCode(), new Money(largest.add(BigDecimal.ONE)).hashCode());
+    }
+
+    @Test
+    public void signum() {
+        assertEquals(0, ZERO.signum());
+        assertEquals(1, ONE.signum());
+        assertEquals(-1, new Money(-0.5).signum());
+        assertEquals(1, new Money(BigDecimal.valueOf(Long.MAX_VALUE)).signum());
+    }
+
     @Test
     public void divide() {
         // division by zero -> throws error
@@ -102,6 +141,17 @@ public class MoneyTest {
         assertFalse(ONE.equals(TWO));
     }
 
+    @Test
+    public void compareTo() {
+        Money huge = new Money(BigDecimal.valueOf(Long.MAX_VALUE));
+        assertTrue(ZERO.compareTo(ONE) < 0);
+        assertTrue(TWO.compareTo(ONE) > 0);
+        assertEquals(0, ONE.compareTo(new Money(BigDecimal.valueOf(1000, 3))));
+        assertTrue(huge.compareTo(TWO) > 0);
+        assertTrue(ZERO.subtract(huge).compareTo(ZERO) < 0);
+        assertEquals(0, huge.compareTo(new Money(BigDecimal.valueOf(Long.MAX_VALUE))));
+    }
+
     @Test
     public void testToString() {
         assertEquals(ZERO.toString(), "$0.00");
@@ -31,4 +31,11 @@ public class RateTest {
         // Duration.ZERO -> throw NonPositiveDurationException
         assertThrows(NonPositiveDurationException.class, () -> new Rate(new Money(1.0), Duration.ZERO));
     }
+
+    @Test
+    public void calculateAmount() {
+        Rate rate = new Rate(new Money(5.5), Duration.ofHours(1));
+        assertEquals(new Money(44), rate.calculateAmount(Duration.ofHours(8)));
+        assertEquals(new Money(0), rate.calculateAmount(Duration.ZERO));
+    }
 }
@@ -0,0 +1,170 @@
+package peoplesoft.model.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.model.job.exceptions.DuplicateJobException;
+import peoplesoft.model.job.exceptions.JobNotFoundException;
+import peoplesoft.model.util.ID;
+
+public class UniqueJobListTest {
+
+    private static final Job EATING = new Job(new ID(1), "Eating",
+            new Rate(new Money(5.5), Duration.ofHours(1)), Duration.ofHours(2), false);
+    private static final Job RUNNING = new Job(new ID(2), "Running",
+            new Rate(new Money(6), Duration.ofHours(4)), Duration.ofHours(8), true);
+    private static final Job SLEEPING = new Job(new ID(3), "Sleeping",
+            new Rate(new Money(1), Duration.ofHours(1)), Duration.ofHours(8), false);
+
+    private static final int LARGE_LIST_SIZE = 200_000;
+    private static final Duration LARGE_LIST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final UniqueJobList uniqueJobList = new UniqueJobList();
+
+    @Test
+    public void contains_nullId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueJobList.contains(null));
+    }
+
+    @Test
+    public void contains_jobNotInList_returnsFalse() {
+        assertFalse(uniqueJobList.contains(EATING.getJobId()));
+    }
+
+    @Test
+    public void contains_jobInList_returnsTrue() {
+        uniqueJobList.add(EATING);
+        assertTrue(uniqueJobList.contains(EATING.getJobId()));
+    }
+
+    @Test
+    public void get_jobInList_returnsJob() {
+        uniqueJobList.add(EATING);
+        uniqueJobList.add(RUNNING);
+        assertEquals(RUNNING, uniqueJobList.get(RUNNING.getJobId()));
+    }
+
+    @Test
+    public void get_jobNotInList_throwsJobNotFoundException() {
+        assertThrows(JobNotFoundException.class, () -> uniqueJobList.get(EATING.getJobId()));
+    }
+
+    @Test
+    public void add_duplicateJob_throwsDuplicateJobException() {
+        uniqueJobList.add(EATING);
+        assertThrows(DuplicateJobException.class, () -> uniqueJobList.add(EATING));
+    }
+
+    @Test
+    public void remove_jobNotInList_throwsJobNotFoundException() {
+        assertThrows(JobNotFoundException.class, () -> uniqueJobList.remove(EATING));
+    }
+
+    @Test
+    public void remove_jobInList_removesJobAndKeepsOthersReachable() {
+        uniqueJobList.add(EATING);
+        uniqueJobList.add(RUNNING);
+        uniqueJobList.add(SLEEPING);
+        uniqueJobList.remove(EATING);
+
+        assertFalse(uniqueJobList.contains(EATING.getJobId()));
+        assertEquals(RUNNING, uniqueJobList.get(RUNNING.getJobId()));
+        assertEquals(SLEEPING, uniqueJobList.get(SLEEPING.getJobId()));
+        assertEquals(2, uniqueJobList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void remove_jobInList_keepsOrderOfOthers() {
+        uniqueJobList.add(EATING);
+        uniqueJobList.add(RUNNING);
+        uniqueJobList.add(SLEEPING);
+        uniqueJobList.remove(EATING);
+        assertEquals(Arrays.asList(RUNNING, SLEEPING), uniqueJobList.asUnmodifiableObservableList());
+
+        // later jobs can still be found and replaced at their new positions
+        uniqueJobList.setJob(SLEEPING, SLEEPING.setAsPaid());
+        assertEquals(Arrays.asList(RUNNING, SLEEPING.setAsPaid()), uniqueJobList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setJob_targetJobNotInList_throwsJobNotFoundException() {
+        assertThrows(JobNotFoundException.class, () -> uniqueJobList.setJob(EATING, EATING));
+    }
+
+    @Test
+    public void setJob_editedJobHasSameIdentity_success() {
+        uniqueJobList.add(EATING);
+        uniqueJobList.setJob(EATING, EATING.setAsPaid());
+        assertTrue(uniqueJobList.get(EATING.getJobId()).hasPaid());
+    }
+
+    @Test
+    public void setJob_editedJobHasDifferentIdentity_success() {
+        uniqueJobList.add(EATING);
+        uniqueJobList.setJob(EATING, RUNNING);
+        assertFalse(uniqueJobList.contains(EATING.getJobId()));
+        assertEquals(RUNNING, uniqueJobList.get(RUNNING.getJobId()));
+    }
+
+    @Test
+    public void setJob_editedJobHasNonUniqueIdentity_throwsDuplicateJobException() {
+        uniqueJobList.add(EATING);
+        uniqueJobList.add(RUNNING);
+        assertThrows(DuplicateJobException.class, () -> uniqueJobList.setJob(EATING, RUNNING));
+    }
+
+    @Test
+    public void setJobs_list_replacesOwnListWithProvidedList() {
+        uniqueJobList.add(EATING);
+        uniqueJobList.setJobs(Arrays.asList(RUNNING, SLEEPING));
+        assertFalse(uniqueJobList.contains(EATING.getJobId()));
+        assertEquals(SLEEPING, uniqueJobList.get(SLEEPING.getJobId()));
+    }
+
+    @Test
+    public void setJobs_listWithDuplicateJobs_throwsDuplicateJobException() {
+        List<Job> listWithDuplicateJobs = Arrays.asList(EATING, EATING);
+        assertThrows(DuplicateJobException.class, () -> uniqueJobList.setJobs(listWithDuplicateJobs));
+    }
+
+    @Test
+    public void setJobs_listWithDuplicateJobs_reportsDuplicateIds() {
+        List<Job> listWithDuplicateJobs = Arrays.asList(EATING, RUNNING, EATING);
+        assertThrows(DuplicateJobException.class,
+                "Operation would result in duplicate jobs with ids: [" + EATING.getJobId() + "]", () ->
+                uniqueJobList.setJobs(listWithDuplicateJobs));
+    }
+
+    @Test
+    public void jobsAreUnique() {
+        assertTrue(uniqueJobList.jobsAreUnique(Arrays.asList(EATING, RUNNING, SLEEPING)));
+        assertFalse(uniqueJobList.jobsAreUnique(Arrays.asList(EATING, RUNNING, EATING.setAsPaid())));
+    }
+
+    @Test
+    public void setJobs_largeList_scalesLinearly() {
+        // A quadratic uniqueness check takes minutes at this size
+        List<Job> largeList = new ArrayList<>();
+        for (int i = 0; i < LARGE_LIST_SIZE; i++) {
+            largeList.add(new Job(new ID(i), EATING.getDesc(), EATING.getRate(), EATING.getDuration(), false));
+        }
+        assertTimeoutPreemptively(LARGE_LIST_TIMEOUT, () -> uniqueJobList.setJobs(largeList));
+        assertEquals(LARGE_LIST_SIZE, uniqueJobList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniqueJobList.asUnmodifiableObservableList().remove(0));
+    }
+}
@@ -1,6 +1,8 @@
 package peoplesoft.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static peoplesoft.testutil.Assert.assertThrows;
 
@@ -21,6 +23,29 @@ public class IdTest {
         assertThrows(IllegalArgumentException.class, () -> new ID(invalidId));
     }
 
+    @Test
+    public void constructor_negativeInt_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ID(-1));
+    }
+
+    @Test
+    public void constructor_numericString_equalsIntId() {
+        assertEquals(new ID(0), new ID("0"));
+        assertEquals(new ID(42), new ID("42"));
+        assertEquals(new ID(Integer.MAX_VALUE), new ID(String.valueOf(Integer.MAX_VALUE)));
+        assertEquals(new ID(42).hashCode(), new ID("42").hashCode());
+        assertTrue(new ID("42").isNumeric());
+        assertEquals(42, new ID("42").getNumericValue());
+
+        // leading zeros or beyond int range -> kept as written
+        assertNotEquals(new ID(42), new ID("042"));
+        assertFalse(new ID("042").isNumeric());
+        assertEquals("042", new ID("042").toString());
+        assertFalse(new ID("2147483648").isNumeric());
+        assertEquals("2147483648", new ID("2147483648").toString());
+        assertFalse(new ID("1ef4").isNumeric());
+    }
+
     @Test
     public void isValidId() {
         // null id
@@ -0,0 +1,151 @@
+package peoplesoft.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
+import static peoplesoft.testutil.TypicalPersons.CARL;
+import static peoplesoft.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.commons.util.KeywordMatcher;
+import peoplesoft.model.tag.TagQuery;
+import peoplesoft.testutil.PersonBuilder;
+
+public class PersonColumnsTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private final PersonColumns columns = persons.getColumns();
+
+    @Test
+    public void findRowsMatchingAll_nameWordsAndTags_matchesLikePredicate() {
+        persons.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+
+        for (List<String> keywords : Arrays.asList(Arrays.asList("meier"), Arrays.asList("FRIENDS"),
+                Arrays.asList("friends", "meier"), Arrays.asList("owesmoney", "benson"), Arrays.asList("Mei"),
+                Arrays.<String>asList())) {
+            PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(keywords);
+            BitSet rows = columns.findRowsMatchingAll(keywords);
+            for (Person person : persons) {
+                assertEquals(predicate.test(person), rows.get(columns.getRow(person.getPersonId())),
+                        keywords + " " + person.getName());
+            }
+        }
+    }
+
+    @Test
+    public void findRowsMatching_tagQueries_matchesLikeTagQuery() {
+        persons.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+
+        for (TagQuery query : Arrays.asList(TagQuery.EMPTY,
+                new TagQuery(Arrays.asList(set("FRIENDS")), set()),
+                new TagQuery(Arrays.asList(set("friends"), set("owesMoney")), set()),
+                new TagQuery(Arrays.asList(set("owesMoney", "unknown")), set()),
+                new TagQuery(Arrays.asList(), set("owesmoney")),
+                new TagQuery(Arrays.asList(set("friends")), set("owesMoney")),
+                new TagQuery(Arrays.asList(set("unknown")), set()))) {
+            BitSet rows = columns.findRowsMatching(query);
+            for (Person person : persons) {
+                int row = columns.getRow(person.getPersonId());
+                assertEquals(query.test(person.getTags()), rows.get(row), query + " " + person.getName());
+                assertEquals(query.test(person.getTags()), columns.matches(row, query));
+            }
+        }
+    }
+
+    @Test
+    public void put_removedRow_isReused() {
+        persons.add(ALICE);
+        persons.add(BENSON);
+        int aliceRow = columns.getRow(ALICE.getPersonId());
+        persons.remove(ALICE);
+
+        assertEquals(-1, columns.getRow(ALICE.getPersonId()));
+        assertFalse(columns.matchesAll(aliceRow, new KeywordMatcher(Arrays.asList("alice"))));
+
+        persons.add(CARL);
+        assertEquals(aliceRow, columns.getRow(CARL.getPersonId()));
+        assertTrue(columns.matchesAll(aliceRow, new KeywordMatcher(Arrays.asList("carl"))));
+    }
+
+    @Test
+    public void findRowsMatchingAll_personEdited_oldTokensNoLongerMatch() {
+        persons.setPersons(Arrays.asList(ALICE, BENSON));
+        Person renamed = new PersonBuilder(BENSON).withName("Benson Kurz").withTags().build();
+        persons.setPerson(BENSON, renamed);
+
+        BitSet expected = new BitSet();
+        expected.set(columns.getRow(BENSON.getPersonId()));
+        assertEquals(expected, columns.findRowsMatchingAll(Arrays.asList("kurz", "BENSON")));
+        assertTrue(columns.findRowsMatchingAll(Arrays.asList("meier")).isEmpty());
+        assertTrue(columns.findRowsMatchingAll(Arrays.asList("owesMoney")).isEmpty());
+        KeywordMatcher friends = new KeywordMatcher(Arrays.asList("FRIENDS"));
+        assertFalse(columns.matchesAll(columns.getRow(BENSON.getPersonId()), friends));
+        assertTrue(columns.matchesAll(columns.getRow(ALICE.getPersonId()), friends));
+        assertTrue(columns.matchesAll(columns.getRow(BENSON.getPersonId()),
+                new KeywordMatcher(Arrays.asList("kurz", "benson"))));
+    }
+
+    @Test
+    public void using_personEdited_matchesEditedFields() {
+        persons.setPersons(Arrays.asList(ALICE, BENSON));
+        Predicate<Person> predicate = new PersonContainsKeywordsPredicate(Arrays.asList("alice")).using(columns);
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BENSON));
+        Predicate<Person> nameAndTag = new PersonContainsKeywordsPredicate(Arrays.asList("ALICE", "owesmoney"))
+                .using(columns);
+        assertFalse(nameAndTag.test(BENSON));
+
+        Person renamed = new PersonBuilder(BENSON).withName("Alice Meier").build();
+        persons.setPerson(BENSON, renamed);
+        assertTrue(predicate.test(renamed));
+        assertTrue(nameAndTag.test(renamed));
+        assertFalse(nameAndTag.test(ALICE));
+
+        // not in the columns -> falls back to the fields of the person
+        assertTrue(predicate.test(new PersonBuilder(CARL).withName("Alice Kurz").build()));
+    }
+
+    @Test
+    public void findRowsNear_misspeltKeywords_includesEveryMatch() {
+        persons.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+
+        for (String keyword : Arrays.asList("meir", "alcie", "clementy", "jurong", "kurtz", "ex", "qwertyuiop")) {
+            PersonFuzzyMatchPredicate predicate = new PersonFuzzyMatchPredicate(Arrays.asList(keyword));
+            BitSet rows = columns.findRowsNear(keyword, PersonFuzzyMatchPredicate.getMaxDistance(keyword));
+            for (Person person : persons) {
+                if (predicate.test(person)) {
+                    assertTrue(rows.get(columns.getRow(person.getPersonId())), keyword + " " + person.getName());
+                }
+            }
+        }
+
+        // words that share no trigrams are not candidates
+        assertTrue(columns.findRowsNear("qwertyuiop", 2).isEmpty());
+    }
+
+    @Test
+    public void findRowsNear_personEdited_oldWordsNoLongerIndexed() {
+        persons.setPersons(Arrays.asList(ALICE));
+        Person renamed = new PersonBuilder(ALICE).withName("Bob Smith").build();
+        persons.setPerson(ALICE, renamed);
+        assertTrue(columns.findRowsNear("paulina", 2).isEmpty());
+        assertFalse(columns.findRowsNear("bobby", 2).isEmpty());
+
+        persons.remove(renamed);
+        assertTrue(columns.findRowsNear("bobby", 2).isEmpty());
+    }
+
+    private static Set<String> set(String... tagNames) {
+        return new HashSet<>(Arrays.asList(tagNames));
+    }
+}
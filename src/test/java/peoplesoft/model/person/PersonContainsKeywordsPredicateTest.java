@@ -1,5 +1,6 @@
 package peoplesoft.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -86,4 +87,16 @@ public class PersonContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").withPhone("12345")
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
+
+    @Test
+    public void normalize_keywordsDifferInOrderAndCase_equal() {
+        PersonContainsKeywordsPredicate predicate =
+                new PersonContainsKeywordsPredicate(Arrays.asList("Bob", "alice", "BOB"));
+        PersonContainsKeywordsPredicate otherPredicate =
+                new PersonContainsKeywordsPredicate(Arrays.asList("ALICE", "bob"));
+        assertFalse(predicate.equals(otherPredicate));
+        assertEquals(predicate.normalize(), otherPredicate.normalize());
+        assertEquals(predicate.normalize().hashCode(), otherPredicate.normalize().hashCode());
+        assertEquals(new PersonContainsKeywordsPredicate(Arrays.asList("alice", "bob")), predicate.normalize());
+    }
 }
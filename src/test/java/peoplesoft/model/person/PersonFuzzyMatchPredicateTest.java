@@ -0,0 +1,113 @@
+package peoplesoft.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
+import static peoplesoft.testutil.TypicalPersons.CARL;
+import static peoplesoft.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import peoplesoft.testutil.PersonBuilder;
+
+public class PersonFuzzyMatchPredicateTest {
+
+    @Test
+    public void equals() {
+        PersonFuzzyMatchPredicate predicate = new PersonFuzzyMatchPredicate(Arrays.asList("alice", "meier"));
+
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new PersonFuzzyMatchPredicate(Arrays.asList("ALICE", " meier"))));
+
+        assertFalse(predicate.equals(1));
+        assertFalse(predicate.equals(null));
+        assertFalse(predicate.equals(new PersonFuzzyMatchPredicate(Arrays.asList("alice"))));
+    }
+
+    @Test
+    public void getMaxDistance() {
+        assertEquals(0, PersonFuzzyMatchPredicate.getMaxDistance("al"));
+        assertEquals(1, PersonFuzzyMatchPredicate.getMaxDistance("ali"));
+        assertEquals(1, PersonFuzzyMatchPredicate.getMaxDistance("alice"));
+        assertEquals(2, PersonFuzzyMatchPredicate.getMaxDistance("alicia"));
+    }
+
+    @Test
+    public void test_keywordsNearWords_returnsTrue() {
+        PersonFuzzyMatchPredicate predicate = new PersonFuzzyMatchPredicate(Collections.singletonList("Alcie"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // misspelt words of the name, email and address
+        predicate = new PersonFuzzyMatchPredicate(Arrays.asList("paulin", "exampel", "jurog"));
+        assertTrue(predicate.test(ALICE));
+
+        // exact keywords have a distance of 0
+        assertEquals(0, new PersonFuzzyMatchPredicate(Arrays.asList("alice", "com")).distanceTo(ALICE));
+        assertEquals(3, predicate.distanceTo(ALICE));
+    }
+
+    @Test
+    public void test_keywordsTooFar_returnsFalse() {
+        // no keywords
+        assertFalse(new PersonFuzzyMatchPredicate(Collections.emptyList()).test(ALICE));
+
+        // one keyword too far
+        assertFalse(new PersonFuzzyMatchPredicate(Arrays.asList("alice", "bensen")).test(ALICE));
+        assertFalse(new PersonFuzzyMatchPredicate(Arrays.asList("alxyz")).test(ALICE));
+
+        // short keywords must match exactly
+        assertFalse(new PersonFuzzyMatchPredicate(Arrays.asList("06")).test(ALICE));
+        assertEquals(PersonFuzzyMatchPredicate.NO_MATCH,
+                new PersonFuzzyMatchPredicate(Arrays.asList("06")).distanceTo(ALICE));
+    }
+
+    @Test
+    public void byDistance_closestFirst() {
+        PersonFuzzyMatchPredicate predicate = new PersonFuzzyMatchPredicate(Arrays.asList("meyer"));
+        Person meyer = new PersonBuilder(CARL).withName("Carl Meyer").build();
+        UniquePersonList columns = new UniquePersonList();
+        columns.setPersons(Arrays.asList(BENSON, DANIEL, meyer));
+
+        List<Person> persons = Arrays.asList(DANIEL, meyer, BENSON);
+        persons.sort(predicate.using(columns.getColumns()).byDistance());
+        assertEquals(Arrays.asList(meyer, BENSON, DANIEL), persons);
+    }
+
+    @Test
+    public void using_personEditedAfterScan_distancesOfCurrentWords() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(Arrays.asList(ALICE, BENSON, DANIEL));
+        PersonFuzzyMatchPredicate.ColumnQuery query =
+                new PersonFuzzyMatchPredicate(Arrays.asList("meyer")).using(persons.getColumns());
+        assertEquals(1, query.distanceTo(BENSON));
+
+        Person meyer = new PersonBuilder(BENSON).withName("Benson Meyer").build();
+        persons.setPerson(BENSON, meyer);
+        assertEquals(0, query.distanceTo(meyer));
+        assertEquals(1, query.distanceTo(DANIEL));
+        assertEquals(PersonFuzzyMatchPredicate.NO_MATCH, query.distanceTo(ALICE));
+        assertEquals(0, query.distanceTo(meyer));
+    }
+
+    @Test
+    public void using_sameResultAsTest() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+
+        for (List<String> keywords : Arrays.asList(Arrays.asList("meir"), Arrays.asList("clementy", "meier"),
+                Arrays.asList("kurz", "street"), Arrays.asList("ex"), Arrays.<String>asList())) {
+            PersonFuzzyMatchPredicate predicate = new PersonFuzzyMatchPredicate(keywords);
+            Predicate<Person> indexed = predicate.using(persons.getColumns());
+            for (Person person : persons) {
+                assertEquals(predicate.test(person), indexed.test(person), keywords + " " + person.getName());
+            }
+        }
+    }
+}
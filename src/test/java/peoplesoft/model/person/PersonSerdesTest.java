@@ -9,6 +9,8 @@ import static peoplesoft.testutil.TypicalPersons.BENSON;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -18,6 +20,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 
 import peoplesoft.commons.util.JsonUtil;
+import peoplesoft.testutil.TestUtil;
 
 public class PersonSerdesTest {
     private static final String INVALID_NAME = "R@chel";
@@ -181,4 +184,22 @@ public class PersonSerdesTest {
     public void deserialize_validSerialization_returnsPerson() throws IOException {
         assertEquals(BENSON, JsonUtil.fromJsonString(VALID_SERIALIZATION, Person.class));
     }
+
+    @Test
+    public void deserialize_reorderedFieldsWithUnknownFields_returnsPerson() throws IOException {
+        Map<String, String> map = new LinkedHashMap<>();
+        map.put("unknownObject", "{ \"nested\" : [ 1, { \"id\" : \"0\" } ] }");
+        map.put("tagged", TestUtil.serializeList(VALID_TAGS.stream()
+            .map(tag -> "\"" + tag + "\"")
+            .collect(Collectors.toList())));
+        map.put("rate", JsonUtil.toJsonString(BENSON.getRate()));
+        map.put("address", "\"" + VALID_ADDRESS + "\"");
+        map.put("email", "\"" + VALID_EMAIL + "\"");
+        map.put("unknownString", "\"ignored\"");
+        map.put("phone", "\"" + VALID_PHONE + "\"");
+        map.put("name", "\"" + VALID_NAME + "\"");
+        map.put("id", "\"" + VALID_PERSONID + "\"");
+
+        assertEquals(BENSON, JsonUtil.fromJsonString(TestUtil.serializeObject(map), Person.class));
+    }
 }
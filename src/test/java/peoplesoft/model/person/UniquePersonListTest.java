@@ -2,13 +2,18 @@ package peoplesoft.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static peoplesoft.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static peoplesoft.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static peoplesoft.testutil.Assert.assertThrows;
 import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
 import static peoplesoft.testutil.TypicalPersons.BOB;
+import static peoplesoft.testutil.TypicalPersons.CARL;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -17,10 +22,14 @@ import org.junit.jupiter.api.Test;
 
 import peoplesoft.model.person.exceptions.DuplicatePersonException;
 import peoplesoft.model.person.exceptions.PersonNotFoundException;
+import peoplesoft.model.util.ID;
 import peoplesoft.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
 
+    private static final int LARGE_LIST_SIZE = 200_000;
+    private static final Duration LARGE_LIST_TIMEOUT = Duration.ofSeconds(10);
+
     private final UniquePersonList uniquePersonList = new UniquePersonList();
 
     @Test
@@ -47,6 +56,17 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice.getPersonId()));
     }
 
+    @Test
+    public void get_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(ALICE, uniquePersonList.get(ALICE.getPersonId()));
+    }
+
+    @Test
+    public void get_personNotInList_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.get(ALICE.getPersonId()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -100,6 +120,15 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE.getPersonId()));
+        assertEquals(BOB, uniquePersonList.get(BOB.getPersonId()));
+    }
+
+    @Test
+    public void setPerson_targetWithDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
     }
 
     @Test
@@ -125,6 +154,32 @@ public class UniquePersonListTest {
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE.getPersonId()));
+    }
+
+    @Test
+    public void remove_personInList_keepsOrderOfOthers() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Arrays.asList(BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+
+        // later persons can still be found and replaced at their new positions
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(BENSON, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(editedCarl, uniquePersonList.get(CARL.getPersonId()));
+        uniquePersonList.remove(editedCarl);
+        assertEquals(Collections.singletonList(BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_personWithSameIdentityDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE.getPersonId()));
     }
 
     @Test
@@ -139,6 +194,8 @@ public class UniquePersonListTest {
         expectedUniquePersonList.add(BOB);
         uniquePersonList.setPersons(expectedUniquePersonList);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE.getPersonId()));
+        assertTrue(uniquePersonList.contains(BOB.getPersonId()));
     }
 
     @Test
@@ -154,6 +211,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE.getPersonId()));
+        assertEquals(BOB, uniquePersonList.get(BOB.getPersonId()));
     }
 
     @Test
@@ -162,6 +221,29 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsDuplicateIds() {
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE);
+        assertThrows(DuplicatePersonException.class,
+                "Operation would result in duplicate persons with ids: [" + ALICE.getPersonId() + "]", () ->
+                uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_largeList_scalesLinearly() {
+        // A quadratic uniqueness check takes minutes at this size
+        List<Person> largeList = new ArrayList<>();
+        for (int i = 0; i < LARGE_LIST_SIZE; i++) {
+            largeList.add(new PersonBuilder(ALICE).withId(new ID(i)).build());
+        }
+        assertTimeoutPreemptively(LARGE_LIST_TIMEOUT, () -> uniquePersonList.setPersons(largeList));
+        assertEquals(LARGE_LIST_SIZE, uniquePersonList.asUnmodifiableObservableList().size());
+
+        largeList.add(largeList.get(0));
+        assertTimeoutPreemptively(LARGE_LIST_TIMEOUT, () ->
+                assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(largeList)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
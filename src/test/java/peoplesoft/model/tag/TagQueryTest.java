@@ -0,0 +1,66 @@
+package peoplesoft.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagQueryTest {
+
+    @Test
+    public void test_emptyQuery_matchesAnyTags() {
+        assertTrue(TagQuery.EMPTY.isEmpty());
+        assertTrue(TagQuery.EMPTY.test(Collections.emptySet()));
+        assertTrue(TagQuery.EMPTY.test(tags("a", "b")));
+    }
+
+    @Test
+    public void test_requiredGroupsAndExcludedTags() {
+        TagQuery query = new TagQuery(Arrays.asList(names("A", "b"), names("c")), names("D"));
+        assertFalse(query.isEmpty());
+
+        // one of each group, none excluded
+        assertTrue(query.test(tags("a", "c")));
+        assertTrue(query.test(tags("B", "C", "e")));
+
+        // missing a group
+        assertFalse(query.test(tags("a", "b")));
+        assertFalse(query.test(tags("c")));
+
+        // has an excluded tag, ignoring case
+        assertFalse(query.test(tags("a", "c", "d")));
+    }
+
+    @Test
+    public void equals() {
+        TagQuery query = new TagQuery(List.of(names("a")), names("b"));
+
+        assertTrue(query.equals(query));
+        assertTrue(query.equals(new TagQuery(List.of(names("A")), names("B"))));
+
+        assertFalse(query.equals(null));
+        assertFalse(query.equals(1));
+        assertFalse(query.equals(new TagQuery(List.of(names("a")), names())));
+        assertFalse(query.equals(new TagQuery(List.of(names("b")), names("a"))));
+        assertEquals(query.hashCode(), new TagQuery(List.of(names("A")), names("B")).hashCode());
+    }
+
+    private static Set<String> names(String... names) {
+        return new HashSet<>(Arrays.asList(names));
+    }
+
+    private static Set<Tag> tags(String... names) {
+        Set<Tag> tags = new HashSet<>();
+        for (String name : names) {
+            tags.add(new Tag(name));
+        }
+        return tags;
+    }
+}
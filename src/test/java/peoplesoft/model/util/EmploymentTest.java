@@ -0,0 +1,175 @@
+package peoplesoft.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.Assert.assertThrows;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import peoplesoft.commons.util.JsonUtil;
+import peoplesoft.model.AddressBook;
+import peoplesoft.model.ModelManager;
+import peoplesoft.model.UserPrefs;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.job.Money;
+import peoplesoft.model.job.Rate;
+import peoplesoft.model.person.Name;
+import peoplesoft.model.person.Person;
+import peoplesoft.testutil.PersonBuilder;
+
+public class EmploymentTest {
+    private static final Job EATING = new Job(new ID(1), "Eating",
+            new Rate(new Money(5.5), Duration.ofHours(1)), Duration.ofHours(2), false);
+    private static final Job RUNNING = new Job(new ID(2), "Running",
+            new Rate(new Money(6), Duration.ofHours(4)), Duration.ofHours(8), true);
+    private static final Job SLEEPING = new Job(new ID(3), "Sleeping",
+            new Rate(new Money(1), Duration.ofHours(1)), Duration.ofHours(8), false);
+
+    private final Employment employment = new Employment(new HashMap<>());
+
+    @Test
+    public void constructor_existingMap_indexesJobs() {
+        HashMap<ID, ID> map = new HashMap<>();
+        map.put(EATING.getJobId(), ALICE.getPersonId());
+        map.put(RUNNING.getJobId(), BENSON.getPersonId());
+        Employment loaded = new Employment(map);
+
+        assertEquals(new LinkedHashSet<>(Arrays.asList(EATING.getJobId())), loaded.getJobIds(ALICE));
+        assertEquals(new LinkedHashSet<>(Arrays.asList(RUNNING.getJobId())), loaded.getJobIds(BENSON));
+    }
+
+    @Test
+    public void associate_jobAlreadyAssigned_reassignsJob() {
+        employment.associate(EATING, ALICE);
+        employment.associate(EATING, BENSON);
+
+        assertTrue(employment.getJobIds(ALICE).isEmpty());
+        assertTrue(employment.getJobIds(BENSON).contains(EATING.getJobId()));
+        assertEquals(BENSON.getPersonId(), employment.getAllJobs().get(EATING.getJobId()));
+    }
+
+    @Test
+    public void deletePerson_removesOnlyTheirJobs() {
+        employment.associate(EATING, ALICE);
+        employment.associate(RUNNING, ALICE);
+        employment.associate(SLEEPING, BENSON);
+        employment.deletePerson(ALICE);
+
+        assertTrue(employment.getJobIds(ALICE).isEmpty());
+        assertFalse(employment.getAllJobs().containsKey(EATING.getJobId()));
+        assertFalse(employment.getAllJobs().containsKey(RUNNING.getJobId()));
+        assertEquals(BENSON.getPersonId(), employment.getAllJobs().get(SLEEPING.getJobId()));
+    }
+
+    @Test
+    public void associate_personRenamed_keepsJobs() {
+        employment.associate(EATING, ALICE);
+        employment.associate(RUNNING, ALICE);
+        Person renamed = new PersonBuilder(ALICE).withName("Alice Tan").build();
+
+        assertEquals(new LinkedHashSet<>(Arrays.asList(EATING.getJobId(), RUNNING.getJobId())),
+                employment.getJobIds(renamed));
+    }
+
+    @Test
+    public void associate_personsWithSameName_keepsJobsApart() {
+        Person namesake = new PersonBuilder(BENSON).withName(ALICE.getName().toString()).build();
+        employment.associate(EATING, ALICE);
+        employment.associate(RUNNING, namesake);
+
+        assertEquals(new LinkedHashSet<>(Arrays.asList(EATING.getJobId())), employment.getJobIds(ALICE));
+        assertEquals(new LinkedHashSet<>(Arrays.asList(RUNNING.getJobId())), employment.getJobIds(namesake));
+    }
+
+    @Test
+    public void resolveLegacyAssociations_knownNames_associatesByPersonId() {
+        HashMap<ID, Name> legacy = new HashMap<>();
+        legacy.put(EATING.getJobId(), ALICE.getName());
+        legacy.put(RUNNING.getJobId(), new Name("Nobody Here"));
+        Employment loaded = Employment.fromLegacyAssociations(legacy);
+        loaded.resolveLegacyAssociations(Arrays.asList(ALICE, BENSON));
+
+        assertEquals(ALICE.getPersonId(), loaded.getAllJobs().get(EATING.getJobId()));
+        assertFalse(loaded.getAllJobs().containsKey(RUNNING.getJobId()));
+    }
+
+    @Test
+    public void deserialize_legacyFormat_resolvesToPersonIds() throws Exception {
+        String json = "{\"persons\":[" + JsonUtil.toJsonString(ALICE) + "],"
+                + "\"jobs\":[" + JsonUtil.toJsonString(EATING) + "],"
+                + "\"employment\":{\"" + EATING.getJobId() + "\":\"" + ALICE.getName() + "\"},"
+                + "\"jobIdState\":0,\"personIdState\":0}";
+        JsonUtil.fromJsonString(json, AddressBook.class);
+
+        assertEquals(ALICE.getPersonId(), Employment.getInstance().getAllJobs().get(EATING.getJobId()));
+        assertEquals(new LinkedHashSet<>(Arrays.asList(EATING.getJobId())), Employment.getInstance().getJobIds(ALICE));
+    }
+
+    @Test
+    public void deserialize_danglingAssignments_dropped() throws Exception {
+        employment.associate(EATING, ALICE);
+        employment.associate(RUNNING, BENSON);
+        employment.associate(SLEEPING, ALICE);
+        String json = "{\"persons\":[" + JsonUtil.toJsonString(ALICE) + "],"
+                + "\"jobs\":[" + JsonUtil.toJsonString(EATING) + "," + JsonUtil.toJsonString(RUNNING) + "],"
+                + "\"employment\":" + JsonUtil.toJsonString(employment) + ","
+                + "\"jobIdState\":0,\"personIdState\":0}";
+        JsonUtil.fromJsonString(json, AddressBook.class);
+
+        // RUNNING is assigned to a missing person, and SLEEPING is a missing job
+        HashMap<ID, ID> expected = new HashMap<>();
+        expected.put(EATING.getJobId(), ALICE.getPersonId());
+        assertEquals(expected, Employment.getInstance().getAllJobs());
+    }
+
+    @Test
+    public void deserialize_mixedFormats_throwsJsonMappingException() {
+        String json = "{\"assignments\":{},\"" + EATING.getJobId() + "\":\"" + ALICE.getName() + "\"}";
+        assertThrows(JsonMappingException.class, () -> JsonUtil.fromJsonString(json, Employment.class));
+    }
+
+    @Test
+    public void serialize_roundTrip_keepsAssociations() throws Exception {
+        employment.associate(EATING, ALICE);
+        employment.associate(RUNNING, BENSON);
+
+        Employment read = JsonUtil.fromJsonString(JsonUtil.toJsonString(employment), Employment.class);
+        assertEquals(employment.getAllJobs(), read.getAllJobs());
+        assertEquals(new LinkedHashSet<>(Arrays.asList(RUNNING.getJobId())), read.getJobIds(BENSON));
+    }
+
+    @Test
+    public void deleteJob_removesAssociation() {
+        employment.associate(EATING, ALICE);
+        employment.associate(RUNNING, ALICE);
+        employment.deleteJob(EATING);
+
+        assertEquals(new LinkedHashSet<>(Arrays.asList(RUNNING.getJobId())), employment.getJobIds(ALICE));
+        assertFalse(employment.getAllJobs().containsKey(EATING.getJobId()));
+    }
+
+    @Test
+    public void getJobs_returnsAssignedJobsInOrder() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addJob(EATING);
+        addressBook.addJob(RUNNING);
+        addressBook.addJob(SLEEPING);
+        ModelManager model = new ModelManager(addressBook, new UserPrefs());
+
+        employment.associate(SLEEPING, ALICE);
+        employment.associate(EATING, ALICE);
+        employment.associate(RUNNING, BENSON);
+
+        assertEquals(Arrays.asList(SLEEPING, EATING), employment.getJobs(ALICE, model));
+    }
+}
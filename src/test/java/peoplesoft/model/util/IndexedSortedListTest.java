@@ -0,0 +1,137 @@
+package peoplesoft.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+public class IndexedSortedListTest {
+    private static final Comparator<String> BY_LENGTH = Comparator.comparingInt(String::length)
+            .thenComparing(Comparator.naturalOrder());
+
+    private final ObservableList<String> source = FXCollections.observableArrayList();
+    private final IndexedSortedList<String> sorted = new IndexedSortedList<>(source);
+    // The list as rebuilt from the changes reported by sorted
+    private final List<String> mirror = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        sorted.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    List<String> permuted = new ArrayList<>(mirror);
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        permuted.set(change.getPermutation(i), mirror.get(i));
+                    }
+                    mirror.clear();
+                    mirror.addAll(permuted);
+                } else if (!change.wasUpdated()) {
+                    mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                    mirror.addAll(change.getFrom(), change.getAddedSubList());
+                }
+            }
+        });
+    }
+
+    @Test
+    public void noComparator_sourceOrder() {
+        source.addAll("ccc", "a", "bb");
+        assertEquals(Arrays.asList("ccc", "a", "bb"), sorted);
+
+        source.remove("a");
+        source.add(0, "dddd");
+        assertEquals(Arrays.asList("dddd", "ccc", "bb"), sorted);
+        assertEquals(sorted, mirror);
+    }
+
+    @Test
+    public void setComparator_sortsAndRestoresSourceOrder() {
+        source.addAll("ccc", "a", "bb");
+        sorted.setComparator(BY_LENGTH);
+        assertEquals(Arrays.asList("a", "bb", "ccc"), sorted);
+        assertEquals(sorted, mirror);
+        assertEquals(0, sorted.getSourceIndex(2));
+        assertEquals(2, sorted.getViewIndex(0));
+
+        sorted.setComparator(null);
+        assertEquals(Arrays.asList("ccc", "a", "bb"), sorted);
+        assertEquals(sorted, mirror);
+    }
+
+    @Test
+    public void sourceChanges_staySorted() {
+        Random random = new Random(0);
+        sorted.setComparator(BY_LENGTH);
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            if (source.isEmpty() || operation == 0) {
+                source.add(random.nextInt(source.size() + 1), newString(random));
+            } else if (operation == 1) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation == 2) {
+                source.set(random.nextInt(source.size()), newString(random));
+            } else {
+                int from = random.nextInt(source.size());
+                source.remove(from, Math.min(source.size(), from + random.nextInt(5)));
+            }
+
+            List<String> expected = new ArrayList<>(source);
+            expected.sort(BY_LENGTH);
+            assertEquals(expected, sorted);
+        }
+        assertEquals(sorted, mirror);
+    }
+
+    @Test
+    public void filterChanges_staySorted() {
+        FilteredList<String> filtered = new FilteredList<>(source);
+        IndexedSortedList<String> sortedFiltered = new IndexedSortedList<>(filtered);
+        sortedFiltered.setComparator(Comparator.reverseOrder());
+        source.addAll("b", "dd", "a", "ccc", "eeee");
+
+        filtered.setPredicate(string -> string.length() % 2 == 1);
+        assertEquals(Arrays.asList("ccc", "b", "a"), sortedFiltered);
+        source.add("f");
+        assertEquals(Arrays.asList("f", "ccc", "b", "a"), sortedFiltered);
+    }
+
+    @Test
+    public void refresh_elementOrderChanged_moved() {
+        List<String> keys = new ArrayList<>(Arrays.asList("a", "b", "c"));
+        source.addAll("x", "y", "z");
+        // Orders each element by the key at its position in the source
+        sorted.setComparator(Comparator.comparing(string -> keys.get(source.indexOf(string))));
+        assertEquals(Arrays.asList("x", "y", "z"), sorted);
+
+        keys.set(0, "d");
+        sorted.refresh("x");
+        assertEquals(Arrays.asList("y", "z", "x"), sorted);
+        assertEquals(sorted, mirror);
+
+        keys.set(1, "e");
+        keys.set(2, "f");
+        sorted.refresh();
+        assertEquals(Arrays.asList("x", "y", "z"), sorted);
+        assertEquals(sorted, mirror);
+    }
+
+    /**
+     * Returns a string that is a distinct object from every other, as elements of the source must be.
+     */
+    private static String newString(Random random) {
+        char[] chars = new char[1 + random.nextInt(6)];
+        Arrays.fill(chars, (char) ('a' + random.nextInt(26)));
+        return new String(chars);
+    }
+}
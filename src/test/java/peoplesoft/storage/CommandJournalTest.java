@@ -0,0 +1,106 @@
+package peoplesoft.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import peoplesoft.commons.util.FileUtil;
+
+public class CommandJournalTest {
+    private static final String DATA_FILE_ID = "1234abcd";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CommandJournal(null));
+    }
+
+    @Test
+    public void forDataFile_returnsSiblingJournal() {
+        Path dataFile = testFolder.resolve("addressbook.json");
+        assertEquals(testFolder.resolve("addressbook.json" + CommandJournal.JOURNAL_FILE_SUFFIX),
+                CommandJournal.forDataFile(dataFile).getJournalFilePath());
+    }
+
+    @Test
+    public void readEntries_missingFile_returnsEmptyList() throws Exception {
+        CommandJournal journal = new CommandJournal(testFolder.resolve("missing.journal"));
+        assertTrue(journal.readEntries(DATA_FILE_ID).isEmpty());
+    }
+
+    @Test
+    public void appendAndReadEntries_matchingDataFile_returnsEntriesInOrder() throws Exception {
+        CommandJournal journal = new CommandJournal(testFolder.resolve("addressbook.journal"));
+        journal.reset(DATA_FILE_ID, Collections.singletonList("find alex"));
+        journal.append("delete 1");
+        journal.append("list");
+
+        assertEquals(Arrays.asList("find alex", "delete 1", "list"), journal.readEntries(DATA_FILE_ID));
+    }
+
+    @Test
+    public void readEntries_differentDataFile_returnsEmptyList() throws Exception {
+        CommandJournal journal = new CommandJournal(testFolder.resolve("addressbook.journal"));
+        journal.reset(DATA_FILE_ID, Collections.emptyList());
+        journal.append("delete 1");
+
+        assertTrue(journal.readEntries("ffff").isEmpty());
+    }
+
+    @Test
+    public void readEntries_partiallyWrittenEntry_dropsEntry() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.journal");
+        CommandJournal journal = new CommandJournal(filePath);
+        journal.reset(DATA_FILE_ID, Collections.emptyList());
+        journal.append("delete 1");
+        Files.write(filePath, "delete 2".getBytes(), StandardOpenOption.APPEND);
+
+        assertEquals(Collections.singletonList("delete 1"), journal.readEntries(DATA_FILE_ID));
+    }
+
+    @Test
+    public void reset_replacesEntries() throws Exception {
+        CommandJournal journal = new CommandJournal(testFolder.resolve("addressbook.journal"));
+        journal.reset(DATA_FILE_ID, Collections.emptyList());
+        journal.append("delete 1");
+        journal.reset(DATA_FILE_ID, Collections.emptyList());
+
+        assertTrue(journal.readEntries(DATA_FILE_ID).isEmpty());
+    }
+
+    @Test
+    public void getDataFileId() throws Exception {
+        Path dataFile = testFolder.resolve("addressbook.json");
+        String missingId = CommandJournal.getDataFileId(dataFile);
+
+        FileUtil.writeToFile(dataFile, "{ \"persons\" : [ ] }");
+        String firstId = CommandJournal.getDataFileId(dataFile);
+        assertNotEquals(missingId, firstId);
+        assertEquals(firstId, CommandJournal.getDataFileId(dataFile));
+
+        FileUtil.writeToFile(dataFile, "{ \"persons\" : [ ], \"jobs\" : [ ] }");
+        String secondId = CommandJournal.getDataFileId(dataFile);
+        assertNotEquals(firstId, secondId);
+
+        // rewritten with the same size
+        FileUtil.writeToFile(dataFile, "{ \"persons\" : [ ], \"tasks\" : [ ] }");
+        String thirdId = CommandJournal.getDataFileId(dataFile);
+        assertNotEquals(secondId, thirdId);
+
+        // changes recorded next to the data file
+        FileUtil.appendToFile(JsonDeltaAddressBookStorage.getDeltaFilePath(dataFile), "{}\n");
+        assertNotEquals(thirdId, CommandJournal.getDataFileId(dataFile));
+    }
+}
@@ -0,0 +1,240 @@
+package peoplesoft.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static peoplesoft.testutil.Assert.assertThrows;
+import static peoplesoft.testutil.TypicalPersons.ALICE;
+import static peoplesoft.testutil.TypicalPersons.BENSON;
+import static peoplesoft.testutil.TypicalPersons.HOON;
+import static peoplesoft.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import peoplesoft.commons.core.PersonIdFactory;
+import peoplesoft.commons.exceptions.DataConversionException;
+import peoplesoft.commons.util.FileUtil;
+import peoplesoft.commons.util.JsonUtil;
+import peoplesoft.model.AddressBook;
+import peoplesoft.model.job.Job;
+import peoplesoft.model.job.Money;
+import peoplesoft.model.job.Rate;
+import peoplesoft.model.util.Employment;
+import peoplesoft.model.util.ID;
+import peoplesoft.testutil.PersonBuilder;
+
+public class JsonDeltaAddressBookStorageTest {
+    private static final Job CLEANING = new Job(new ID(1), "Cleaning",
+            new Rate(new Money(5.5), Duration.ofHours(1)), Duration.ofHours(2), false);
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path deltaFilePath;
+    private JsonDeltaAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        Employment.newInstance();
+        filePath = testFolder.resolve("addressbook.json");
+        deltaFilePath = JsonDeltaAddressBookStorage.getDeltaFilePath(filePath);
+        storage = new JsonDeltaAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(deltaFilePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterSave_appendsOnlyChanges() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+        original.removePerson(ALICE);
+        original.addJob(CLEANING);
+        Employment.getInstance().associate(CLEANING, BENSON);
+        storage.saveAddressBook(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(4, Files.readAllLines(deltaFilePath).size());
+
+        Employment.newInstance();
+        JsonDeltaAddressBookStorage restartedStorage = new JsonDeltaAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(restartedStorage.readAddressBook().get()));
+        assertEquals(BENSON.getPersonId(), Employment.getInstance().getAllJobs().get(CLEANING.getJobId()));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_writesNothing() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(deltaFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_manyChanges_compactsIntoSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        for (int i = 0; i < JsonDeltaAddressBookStorage.MIN_DELTAS_BEFORE_COMPACTION - 1; i++) {
+            original.setPerson(original.getPerson(BENSON.getPersonId()),
+                    new PersonBuilder(BENSON).withPhone(String.valueOf(10000000 + i)).build());
+            storage.saveAddressBook(original);
+        }
+        assertEquals(JsonDeltaAddressBookStorage.MIN_DELTAS_BEFORE_COMPACTION - 1,
+                Files.readAllLines(deltaFilePath).size());
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(deltaFilePath));
+        assertEquals(original, new AddressBook(new JsonDeltaAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_changesAlreadyInSnapshot_appliedIdempotently() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        List<String> deltas = Files.readAllLines(deltaFilePath);
+
+        // Simulate a crash after a new snapshot is written, but before the changes are removed
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        FileUtil.writeToFile(deltaFilePath, String.join("\n", deltas) + "\n");
+
+        assertEquals(original, new AddressBook(new JsonDeltaAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_compactionInterruptedBeforeChangesRemoved_readsSnapshot() throws Exception {
+        JsonDeltaAddressBookStorage interruptedStorage = new JsonDeltaAddressBookStorage(filePath) {
+            @Override
+            void deleteDeltaFile(Path deltaFilePath) {
+                // Simulate a crash after the new snapshot is written, but before the changes are removed
+            }
+        };
+        AddressBook original = getTypicalAddressBook();
+        interruptedStorage.saveAddressBook(original);
+        for (int i = 0; i < JsonDeltaAddressBookStorage.MIN_DELTAS_BEFORE_COMPACTION - 1; i++) {
+            original.setPerson(original.getPerson(BENSON.getPersonId()),
+                    new PersonBuilder(BENSON).withPhone(String.valueOf(10000000 + i)).build());
+            interruptedStorage.saveAddressBook(original);
+        }
+
+        // Changes that were not appended yet trigger the compaction
+        original.setPerson(original.getPerson(BENSON.getPersonId()),
+                new PersonBuilder(BENSON).withName("Benson Kurz").build());
+        original.addJob(CLEANING);
+        Employment.getInstance().associate(CLEANING, BENSON);
+        PersonIdFactory.setId(PersonIdFactory.getId() + 5);
+        int personIdState = PersonIdFactory.getId();
+        interruptedStorage.saveAddressBook(original);
+        assertTrue(Files.exists(deltaFilePath));
+
+        Employment.newInstance();
+        assertEquals(original, new AddressBook(new JsonDeltaAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(BENSON.getPersonId(), Employment.getInstance().getAllJobs().get(CLEANING.getJobId()));
+        assertTrue(PersonIdFactory.getId() >= personIdState);
+    }
+
+    @Test
+    public void readAddressBook_olderIdState_idsNotHandedOutAgain() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        PersonIdFactory.setId(0);
+        new JsonDeltaAddressBookStorage(filePath).readAddressBook();
+        int personIdState = PersonIdFactory.getId();
+        FileUtil.appendToFile(deltaFilePath, JsonUtil.toJsonString(AddressBookDelta.setIdState(0, 0), false) + "\n");
+
+        new JsonDeltaAddressBookStorage(filePath).readAddressBook();
+        assertEquals(personIdState, PersonIdFactory.getId());
+    }
+
+    @Test
+    public void readAddressBook_partiallyWrittenChange_dropsChange() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        FileUtil.writeToFile(deltaFilePath, "{\"type\":\"REMOVE_PERSON\",\"id\":");
+
+        assertEquals(original, new AddressBook(new JsonDeltaAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterPartiallyWrittenChange_changesReadable() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addJob(CLEANING);
+        storage.saveAddressBook(original);
+        FileUtil.appendToFile(deltaFilePath, "{\"type\":\"REMOVE_PERSON\",\"id\":");
+
+        JsonDeltaAddressBookStorage restartedStorage = new JsonDeltaAddressBookStorage(filePath);
+        AddressBook restored = new AddressBook(restartedStorage.readAddressBook().get());
+        restored.removePerson(ALICE);
+        restartedStorage.saveAddressBook(restored);
+
+        original.removePerson(ALICE);
+        assertEquals(original, new AddressBook(new JsonDeltaAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterFailedSave_writesChangesAgain() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // A directory in place of the delta file makes appending to it fail
+        Files.createDirectory(deltaFilePath);
+        original.removePerson(ALICE);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(original));
+
+        Files.delete(deltaFilePath);
+        original.addJob(CLEANING);
+        storage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new JsonDeltaAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidChange_throwsDataConversionException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        FileUtil.writeToFile(deltaFilePath, "{\"type\":\"NOT_A_TYPE\"}\n");
+
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSnapshot() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertFalse(Files.exists(JsonDeltaAddressBookStorage.getDeltaFilePath(otherFilePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+        assertEquals(new HashMap<>(), Employment.getInstance().getAllJobs());
+    }
+}